@@ -0,0 +1,73 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.example.expert.client.dto.WeatherDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * weather.json(366일) 파싱 비용 비교.
+ * dtoArray: 기존 getForEntity(..., WeatherDto[].class) 와 같은 전체 역직렬화 후 선형 탐색
+ * streaming: WeatherJsonReader 로 필요한 날짜만 읽고 중단
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeatherParseBenchmark {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+    // 조회 날짜의 위치 (연초, 연말)
+    @Param({"01-15", "12-20"})
+    private String date;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new ParameterNamesModule())
+            .build();
+    private byte[] body;
+    private Set<String> window;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("[");
+        LocalDate day = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 366; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"date\":\"").append(day.plusDays(i).format(DATE_FORMATTER))
+                    .append("\",\"weather\":\"Sunny and Cold\"}");
+        }
+        body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+        LocalDate start = LocalDate.parse("2024-" + date);
+        window = Set.of(start.format(DATE_FORMATTER), start.plusDays(1).format(DATE_FORMATTER),
+                start.plusDays(2).format(DATE_FORMATTER));
+    }
+
+    @Benchmark
+    public String dtoArray() throws IOException {
+        WeatherDto[] weatherArray = objectMapper.readValue(body, WeatherDto[].class);
+        for (WeatherDto weatherDto : weatherArray) {
+            if (date.equals(weatherDto.getDate())) {
+                return weatherDto.getWeather();
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Map<String, String> streaming() throws IOException {
+        return WeatherJsonReader.read(new ByteArrayInputStream(body), window);
+    }
+}
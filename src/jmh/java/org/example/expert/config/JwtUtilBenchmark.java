@@ -0,0 +1,34 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes()));
+        jwtUtil.init();
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@a.com", UserRole.USER));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "user@a.com", UserRole.USER);
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.config;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder();
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encodedPassword = passwordEncoder.encode("Password1234");
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("Password1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("Password1234", encodedPassword);
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.domain.common;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private Todo todo;
+    private Comment comment;
+
+    @Setup
+    public void setUp() {
+        User user = new User("user@a.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        todo = new Todo("title", "contents", "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", 1L);
+
+        comment = new Comment("contents", user, todo);
+        ReflectionTestUtils.setField(comment, "id", 1L);
+    }
+
+    @Benchmark
+    public TodoResponse todoResponse() {
+        return TodoResponse.of(todo, UserResponse.of(todo.getUser()));
+    }
+
+    @Benchmark
+    public CommentResponse commentResponse() {
+        return CommentResponse.of(comment, UserResponse.of(comment.getUser()));
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.expert.domain.todo;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 500 건 저장 비용 비교.
+ * single: POST /todos 처럼 건마다 todos / managers 를 한 건씩 INSERT 하고 커밋한다.
+ * batch: POST /todos/batch 처럼 한 트랜잭션에서 100 건 단위 JDBC 배치로 INSERT 한다.
+ * 인메모리 H2 는 네트워크 왕복과 커밋 시 디스크 동기화가 없으므로 실제 DB 에서의 차이는 이보다 크다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TodoBatchInsertBenchmark {
+
+    private static final int TODOS = 500;
+    private static final int CHUNK_SIZE = 100;
+
+    private Connection connection;
+    private PreparedStatement insertTodo;
+    private PreparedStatement insertManager;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:batch;MODE=MariaDB");
+        connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE todos (id BIGINT PRIMARY KEY, title VARCHAR(255), contents VARCHAR(255), "
+                    + "weather VARCHAR(255), user_id BIGINT, created_at TIMESTAMP, modified_at TIMESTAMP)");
+            statement.execute("CREATE TABLE managers (id BIGINT PRIMARY KEY, user_id BIGINT, todo_id BIGINT)");
+        }
+        insertTodo = connection.prepareStatement("INSERT INTO todos VALUES (?, ?, ?, ?, ?, ?, ?)");
+        insertManager = connection.prepareStatement("INSERT INTO managers VALUES (?, ?, ?)");
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE managers");
+            statement.execute("TRUNCATE TABLE todos");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long single() throws SQLException {
+        connection.setAutoCommit(false);
+        for (int i = 0; i < TODOS; i++) {
+            bindTodo(i);
+            insertTodo.executeUpdate();
+            insertManager.executeUpdate();
+            connection.commit();
+        }
+        return nextId;
+    }
+
+    @Benchmark
+    public long batch() throws SQLException {
+        connection.setAutoCommit(false);
+        for (int i = 0; i < TODOS; i++) {
+            bindTodo(i);
+            insertTodo.addBatch();
+            insertManager.addBatch();
+            if ((i + 1) % CHUNK_SIZE == 0) {
+                insertTodo.executeBatch();
+                insertManager.executeBatch();
+            }
+        }
+        insertTodo.executeBatch();
+        insertManager.executeBatch();
+        connection.commit();
+        return nextId;
+    }
+
+    private void bindTodo(int i) throws SQLException {
+        long todoId = ++nextId;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insertTodo.setLong(1, todoId);
+        insertTodo.setString(2, "title" + i);
+        insertTodo.setString(3, "contents" + i);
+        insertTodo.setString(4, "Sunny");
+        insertTodo.setLong(5, 1L);
+        insertTodo.setTimestamp(6, now);
+        insertTodo.setTimestamp(7, now);
+
+        insertManager.setLong(1, ++nextId);
+        insertManager.setLong(2, 1L);
+        insertManager.setLong(3, todoId);
+    }
+}
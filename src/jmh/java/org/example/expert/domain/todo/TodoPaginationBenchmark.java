@@ -0,0 +1,125 @@
+package org.example.expert.domain.todo;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /todos 의 OFFSET/LIMIT + COUNT 방식과 (modified_at, id) keyset 방식 비교.
+ * H2 인메모리 DB 에 200,000 건을 넣고 1 페이지와 10,000 페이지(size=10)를 조회한다.
+ * 같은 쿼리 결과를 재사용하지 않도록 OPTIMIZE_REUSE_RESULTS 를 끈다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoPaginationBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"1", "10000"})
+    private int page;
+
+    private Connection connection;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement countQuery;
+    private PreparedStatement keysetQuery;
+    private Timestamp cursorModifiedAt;
+    private long cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:pagination;MODE=MariaDB;OPTIMIZE_REUSE_RESULTS=FALSE");
+        connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE todos (id BIGINT PRIMARY KEY, title VARCHAR(255), contents VARCHAR(255), "
+                    + "weather VARCHAR(255), user_id BIGINT, created_at TIMESTAMP, modified_at TIMESTAMP)");
+            statement.execute("CREATE INDEX idx_todos_modified_at_id ON todos (modified_at DESC, id DESC)");
+        }
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO todos VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                Timestamp timestamp = Timestamp.valueOf(base.plusSeconds(i / 3));
+                insert.setLong(1, i);
+                insert.setString(2, "title" + i);
+                insert.setString(3, "contents" + i);
+                insert.setString(4, "Sunny");
+                insert.setLong(5, i % 100);
+                insert.setTimestamp(6, timestamp);
+                insert.setTimestamp(7, timestamp);
+                insert.addBatch();
+                if (i % 1_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+
+        offsetQuery = connection.prepareStatement(
+                "SELECT * FROM todos ORDER BY modified_at DESC, id DESC LIMIT ? OFFSET ?");
+        countQuery = connection.prepareStatement("SELECT COUNT(*) FROM todos");
+        keysetQuery = connection.prepareStatement(
+                "SELECT * FROM todos WHERE modified_at <= ? AND (modified_at < ? OR id < ?) "
+                        + "ORDER BY modified_at DESC, id DESC LIMIT ?");
+
+        // 이전 페이지 마지막 행 = 커서
+        if (page > 1) {
+            offsetQuery.setInt(1, 1);
+            offsetQuery.setInt(2, (page - 1) * PAGE_SIZE - 1);
+            try (ResultSet resultSet = offsetQuery.executeQuery()) {
+                resultSet.next();
+                cursorId = resultSet.getLong("id");
+                cursorModifiedAt = resultSet.getTimestamp("modified_at");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long offset() throws SQLException {
+        offsetQuery.setInt(1, PAGE_SIZE);
+        offsetQuery.setInt(2, (page - 1) * PAGE_SIZE);
+        long sum = consume(offsetQuery);
+        try (ResultSet resultSet = countQuery.executeQuery()) {
+            resultSet.next();
+            return sum + resultSet.getLong(1);
+        }
+    }
+
+    @Benchmark
+    public long keyset() throws SQLException {
+        if (page == 1) {
+            offsetQuery.setInt(1, PAGE_SIZE + 1);
+            offsetQuery.setInt(2, 0);
+            return consume(offsetQuery);
+        }
+        keysetQuery.setTimestamp(1, cursorModifiedAt);
+        keysetQuery.setTimestamp(2, cursorModifiedAt);
+        keysetQuery.setLong(3, cursorId);
+        keysetQuery.setInt(4, PAGE_SIZE + 1);
+        return consume(keysetQuery);
+    }
+
+    private long consume(PreparedStatement query) throws SQLException {
+        long sum = 0;
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                sum += resultSet.getLong("id");
+            }
+        }
+        return sum;
+    }
+}
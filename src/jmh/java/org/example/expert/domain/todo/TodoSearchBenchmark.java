@@ -0,0 +1,141 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 색인(TodoSearchIndex) 비용 측정. 일정 1,000,000 건(제목 3 단어, 내용 12 단어)을 만들어
+ * build: 전체 색인 생성 시간 (애플리케이션 시작 시 재구축 비용)
+ * search: 검색어별 조회 시간 (흔한 단어 / 중간 / 드문 단어 / 두 단어 교집합)
+ * memory: GC 후 힙 증가량으로 잰 일정당 색인 메모리. 시간이 아니라 보조 결과 memory:bytesPerDocument 를 본다
+ * 을 측정한다.
+ * 단어는 10,000 개 어휘에서 Zipf 분포로 뽑아 실제 문장처럼 일부 단어가 훨씬 자주 나오게 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoSearchBenchmark {
+
+    private static final int DOCUMENTS = 1_000_000;
+    private static final int VOCABULARY = 10_000;
+    private static final Duration HALF_LIFE = Duration.ofDays(30);
+
+    @State(Scope.Benchmark)
+    public static class Documents {
+
+        TodoSearchDocument[] documents;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            documents = generate();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BuiltIndex {
+
+        // w1 은 거의 모든 일정, w9000 은 약 0.1% 에 나옴
+        @Param({"w1", "w50", "w9000", "w1 w50"})
+        String query;
+
+        TodoSearchIndex index;
+        long nowMillis;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            index = build(generate());
+            nowMillis = System.currentTimeMillis();
+        }
+    }
+
+    // public 필드가 JMH 보조 결과로 보고됨. 반복마다 마지막 측정값만 남도록 더하지 않고 덮어씀
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class IndexMemory {
+
+        public long bytesPerDocument;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerDocument = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public TodoSearchIndex build(Documents documents) {
+        return build(documents.documents);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public TodoSearchIndex memory(Documents documents, IndexMemory memory) {
+        long before = usedHeap();
+        TodoSearchIndex index = build(documents.documents);
+        memory.bytesPerDocument = (usedHeap() - before) / DOCUMENTS;
+        return index;
+    }
+
+    @Benchmark
+    public List<TodoSearchIndex.Hit> search(BuiltIndex builtIndex) {
+        return builtIndex.index.search(builtIndex.query, 20, builtIndex.nowMillis);
+    }
+
+    private static TodoSearchIndex build(TodoSearchDocument[] documents) {
+        TodoSearchIndex index = new TodoSearchIndex(HALF_LIFE);
+        for (TodoSearchDocument document : documents) {
+            index.upsert(document);
+        }
+        return index;
+    }
+
+    private static TodoSearchDocument[] generate() {
+        // 순위 r 인 단어의 빈도가 1/r 에 비례하도록 누적 가중치로 뽑음
+        double[] cumulative = new double[VOCABULARY];
+        double sum = 0;
+        for (int rank = 1; rank <= VOCABULARY; rank++) {
+            sum += 1.0 / rank;
+            cumulative[rank - 1] = sum;
+        }
+
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        TodoSearchDocument[] documents = new TodoSearchDocument[DOCUMENTS];
+        for (int i = 0; i < DOCUMENTS; i++) {
+            documents[i] = new TodoSearchDocument(
+                    i + 1L,
+                    words(random, cumulative, sum, 3),
+                    words(random, cumulative, sum, 12),
+                    base.plusSeconds(i * 30L)
+            );
+        }
+        return documents;
+    }
+
+    private static String words(Random random, double[] cumulative, double sum, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int position = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            int rank = (position >= 0 ? position : -(position + 1)) + 1;
+            text.append('w').append(rank).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.user.enums;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+public class UserRoleBenchmark {
+
+    @Param({"USER", "admin"})
+    private String role;
+
+    @Benchmark
+    public UserRole of() {
+        return UserRole.of(role);
+    }
+}
@@ -1,62 +1,318 @@
 package org.example.expert.client;
 
-import org.example.expert.client.dto.WeatherDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
 import org.example.expert.domain.common.exception.ServerException;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final CloseableHttpClient httpClient;
     private final RestTemplate restTemplate;
+    private final WeatherProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final Timer upstreamTimer;
+    private final Counter fallbackCounter;
+    // 백그라운드 갱신은 블로킹 HTTP 호출이라 공용 ForkJoinPool 이 아닌 전용 스레드에서 수행
+    private final ExecutorService refresher;
+
+    // 날짜(MM-dd) -> 날씨 인덱스 (오늘부터 windowDays 일). 하루에 한 번 또는 TTL 이 지나면 갱신
+    private volatile WeatherSnapshot snapshot;
+    // 진행 중인 갱신 요청. 동시에 들어온 호출은 이 요청 하나를 공유
+    private final AtomicReference<CompletableFuture<WeatherSnapshot>> inFlight = new AtomicReference<>();
+    // 외부 API 장애 시 대체값으로 사용할 마지막 정상 응답
+    private volatile String lastKnownWeather;
+
+    public WeatherClient(RestTemplateBuilder builder, WeatherProperties properties, MeterRegistry meterRegistry) {
+        this.httpClient = createHttpClient(properties);
+        this.restTemplate = builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+        this.properties = properties;
+        this.circuitBreaker = new CircuitBreaker(properties.failureThreshold(), properties.openDuration());
+        this.refresher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "weather-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.upstreamTimer = Timer.builder("weather.upstream.latency")
+                .description("날씨 API 호출 시간")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("weather.fallback")
+                .description("날씨 API 장애로 대체값을 사용한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("weather.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("서킷 브레이커 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(meterRegistry);
+    }
+
+    // 커넥션을 재사용하도록 풀링 클라이언트를 사용하고, 타임아웃은 커넥션 설정으로 지정
+    private static CloseableHttpClient createHttpClient(WeatherProperties properties) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxConnections())
+                .setMaxConnPerRoute(properties.maxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.connectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.readTimeout()))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.of(properties.readTimeout()))
+                        .build())
+                .build();
+    }
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    @PreDestroy
+    public void close() throws IOException {
+        refresher.shutdownNow();
+        httpClient.close();
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        try {
+            String weather = getWeather(LocalDate.now());
+            lastKnownWeather = weather;
+            return weather;
+        } catch (RuntimeException e) {
+            return fallbackWeather(e);
+        }
+    }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+    /**
+     * 특정 날짜의 날씨를 조회한다. 대체값을 사용하지 않으며 조회에 실패하면 예외를 던진다.
+     * 캐시 범위(오늘부터 windowDays 일)를 벗어난 날짜는 캐시하지 않고 해당 날짜만 조회한다.
+     */
+    public String getWeather(LocalDate date) {
+        String key = date.format(DATE_FORMATTER);
+        String weather = getCachedWeather(key);
+        if (weather != null) {
+            return weather;
         }
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+
+        weather = isInWindow(date)
+                ? await(refresh(false)).get(key)
+                : fetchWeather(Set.of(key)).get(key);
+        if (weather == null) {
+            throw new ServerException("해당 날짜의 날씨 데이터를 찾을 수 없습니다. date=" + key);
+        }
+        return weather;
+    }
+
+    /**
+     * 여러 날짜의 날씨를 한 번에 조회한다. 캐시 범위를 벗어난 날짜는 외부 API 를 한 번만 호출해 함께 읽는다.
+     * 데이터가 없는 날짜는 결과에서 빠지며, 외부 API 조회에 실패하면 예외를 던진다.
+     */
+    public Map<LocalDate, String> getWeather(Collection<LocalDate> dates) {
+        Map<LocalDate, String> weatherByDate = new HashMap<>();
+        List<LocalDate> windowMisses = new ArrayList<>();
+        List<LocalDate> outOfWindow = new ArrayList<>();
+        for (LocalDate date : dates) {
+            String weather = getCachedWeather(date.format(DATE_FORMATTER));
+            if (weather != null) {
+                weatherByDate.put(date, weather);
+            } else if (isInWindow(date)) {
+                windowMisses.add(date);
+            } else {
+                outOfWindow.add(date);
+            }
+        }
+
+        if (!windowMisses.isEmpty()) {
+            putWeather(weatherByDate, windowMisses, await(refresh(false)).weatherByDate());
+        }
+        if (!outOfWindow.isEmpty()) {
+            Set<String> keys = outOfWindow.stream().map(date -> date.format(DATE_FORMATTER)).collect(Collectors.toSet());
+            putWeather(weatherByDate, outOfWindow, fetchWeather(keys));
+        }
+        return weatherByDate;
+    }
+
+    // 캐시에 없으면 null
+    private String getCachedWeather(String key) {
+        WeatherSnapshot current = snapshot;
+        if (current == null || !current.contains(key)) {
+            return null;
         }
+        if (current.isExpired(LocalDate.now(), Instant.now())) {
+            // 캐시된 값으로 응답하고 갱신은 백그라운드에서 수행
+            refresh(true);
+        }
+        return current.get(key);
+    }
+
+    private void putWeather(Map<LocalDate, String> weatherByDate, List<LocalDate> dates, Map<String, String> fetched) {
+        for (LocalDate date : dates) {
+            String weather = fetched.get(date.format(DATE_FORMATTER));
+            if (weather != null) {
+                weatherByDate.put(date, weather);
+            }
+        }
+    }
+
+    private String fallbackWeather(RuntimeException cause) {
+        fallbackCounter.increment();
+        String fallback = lastKnownWeather != null ? lastKnownWeather : properties.fallback();
+        log.warn("날씨 대체값 사용: weather={}, cause={}", fallback, cause.getMessage());
+        return fallback;
+    }
+
+    private CompletableFuture<WeatherSnapshot> refresh(boolean async) {
+        while (true) {
+            CompletableFuture<WeatherSnapshot> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
 
+            CompletableFuture<WeatherSnapshot> refresh = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(null, refresh)) {
+                continue;
+            }
 
-        String today = getCurrentDate();
+            Runnable task = () -> {
+                try {
+                    WeatherSnapshot loaded = fetchSnapshot();
+                    snapshot = loaded;
+                    refresh.complete(loaded);
+                } catch (RuntimeException e) {
+                    log.warn("날씨 데이터 갱신 실패: {}", e.getMessage());
+                    refresh.completeExceptionally(e);
+                } finally {
+                    inFlight.compareAndSet(refresh, null);
+                }
+            };
+
+            if (async) {
+                refresher.execute(task);
+            } else {
+                task.run();
+            }
+            return refresh;
+        }
+    }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+    private WeatherSnapshot await(CompletableFuture<WeatherSnapshot> refresh) {
+        try {
+            return refresh.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
+        }
+    }
+
+    private WeatherSnapshot fetchSnapshot() {
+        Map<String, String> weatherByDate = fetchWeather(getWindowDates());
+        if (weatherByDate.isEmpty()) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+
+        return new WeatherSnapshot(weatherByDate, LocalDate.now(), Instant.now().plus(properties.cacheTtl()));
+    }
+
+    private Map<String, String> fetchWeather(Set<String> dates) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new ServerException("날씨 API 호출이 일시적으로 차단되었습니다.");
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            Map<String, String> weatherByDate = restTemplate.execute(buildWeatherApiUri(), HttpMethod.GET, null, response -> {
+                if (!HttpStatus.OK.equals(response.getStatusCode())) {
+                    throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.getStatusCode());
+                }
+                return WeatherJsonReader.read(response.getBody(), dates);
+            });
+            circuitBreaker.recordSuccess();
+            return weatherByDate != null ? weatherByDate : Map.of();
+        } catch (RuntimeException e) {
+            circuitBreaker.recordFailure();
+            throw e;
+        } finally {
+            upstreamTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
+    }
+
+    private boolean isInWindow(LocalDate date) {
+        LocalDate today = LocalDate.now();
+        return !date.isBefore(today) && date.isBefore(today.plusDays(Math.max(1, properties.windowDays())));
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    // 오늘부터 windowDays 일 동안의 날짜(MM-dd)
+    private Set<String> getWindowDates() {
+        LocalDate today = LocalDate.now();
+        Set<String> dates = new HashSet<>();
+        for (int i = 0; i < Math.max(1, properties.windowDays()); i++) {
+            dates.add(today.plusDays(i).format(DATE_FORMATTER));
+        }
+        return dates;
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(properties.baseUrl())
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private record WeatherSnapshot(Map<String, String> weatherByDate, LocalDate loadedOn, Instant expiresAt) {
+
+        boolean contains(String date) {
+            return weatherByDate.containsKey(date);
+        }
+
+        String get(String date) {
+            return weatherByDate.get(date);
+        }
+
+        boolean isExpired(LocalDate today, Instant now) {
+            return !loadedOn.equals(today) || now.isAfter(expiresAt);
+        }
     }
 }
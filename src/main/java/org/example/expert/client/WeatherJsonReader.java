@@ -0,0 +1,59 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * weather.json 을 스트리밍으로 읽어 필요한 날짜의 날씨만 추출한다.
+ * WeatherDto 배열을 만들지 않고, 필요한 날짜를 모두 찾으면 나머지 본문은 읽지 않는다.
+ */
+final class WeatherJsonReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private WeatherJsonReader() {
+    }
+
+    static Map<String, String> read(InputStream inputStream, Set<String> dates) throws IOException {
+        Map<String, String> weatherByDate = new HashMap<>(dates.size() * 2);
+
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
+            }
+
+            while (weatherByDate.size() < dates.size() && parser.nextToken() == JsonToken.START_OBJECT) {
+                String date = null;
+                String weather = null;
+
+                String fieldName;
+                while ((fieldName = parser.nextFieldName()) != null) {
+                    JsonToken valueToken = parser.nextToken();
+                    if ("date".equals(fieldName)) {
+                        date = parser.getValueAsString();
+                    } else if ("weather".equals(fieldName) && (date == null || dates.contains(date))) {
+                        // 필요 없는 날짜의 날씨 문자열은 만들지 않음
+                        weather = parser.getValueAsString();
+                    } else if (valueToken.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+
+                // 날씨가 빠진 레코드는 없는 날짜로 취급해 캐시 hit 로 null 이 내려가지 않게 함
+                if (date != null && weather != null && dates.contains(date)) {
+                    weatherByDate.put(date, weather);
+                }
+            }
+        }
+
+        return weatherByDate;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "weather")
+public record WeatherProperties(
+        @DefaultValue("https://f-api.github.io") String baseUrl,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("2s") Duration readTimeout,
+        @DefaultValue("10") int maxConnections,
+        @DefaultValue("24h") Duration cacheTtl,
+        @DefaultValue("7") int windowDays,
+        @DefaultValue("5") int failureThreshold,
+        @DefaultValue("30s") Duration openDuration,
+        @DefaultValue("Unknown") String fallback
+) {
+}
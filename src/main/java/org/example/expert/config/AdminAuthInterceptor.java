@@ -3,7 +3,7 @@ package org.example.expert.config;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -11,39 +11,26 @@ import org.springframework.web.servlet.HandlerInterceptor;
 @Slf4j
 @Component
 public class AdminAuthInterceptor implements HandlerInterceptor {
-    private final JwtUtil jwtUtil;
-
-    public AdminAuthInterceptor(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
-    }
 
     @Override
     public boolean preHandle(HttpServletRequest request,
                              HttpServletResponse response,
                              Object handler) throws Exception {
-        final String auth = request.getHeader("Authorization");
-        if (auth == null || !auth.startsWith("Bearer ")) {
+        // JwtFilter 에서 검증한 인증 정보를 재사용 (토큰 재파싱 없음)
+        final AuthUser authUser = AuthContext.get(request);
+        if (authUser == null) {
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Missing or Invalid Token");
             return false;
         }
 
-        final String token = auth.substring(7);
-        if(!jwtUtil.validateToken(token)){
-            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or Expired Token");
-            return false;
-        }
-
-        final Long userId = jwtUtil.getUserId(token);
-        final UserRole role = jwtUtil.getUserRole(token);
-
-        if (!role.equals(UserRole.ADMIN)) {
+        if (!UserRole.ADMIN.equals(authUser.getUserRole())) {
             response.sendError(HttpServletResponse.SC_FORBIDDEN, "Admin Role Required");
             return false;
         }
 
+        final Long userId = authUser.getId();
         final Long startTime = System.currentTimeMillis();
         request.setAttribute("startTime", startTime);
-        request.setAttribute("userId", userId);
 
         log.info("[REQ] {} {} | startAt={} userId={}",
                 request.getMethod(),
@@ -59,7 +46,8 @@ public class AdminAuthInterceptor implements HandlerInterceptor {
                                 HttpServletResponse response,
                                 Object handler,
                                 Exception e) throws Exception {
-        final Long userId = (Long) request.getAttribute("userId");
+        final AuthUser authUser = AuthContext.get(request);
+        final Long userId = authUser != null ? authUser.getId() : null;
         final Long startTime = (Long) request.getAttribute("startTime");
         final long duration = startTime != null ? System.currentTimeMillis() - startTime : -1;
 
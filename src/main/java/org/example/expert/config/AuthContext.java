@@ -0,0 +1,24 @@
+package org.example.expert.config;
+
+import jakarta.servlet.ServletRequest;
+import org.example.expert.domain.common.dto.AuthUser;
+
+/**
+ * JwtFilter 가 토큰을 한 번 검증한 뒤 요청에 바인딩하는 인증 정보.
+ * 인터셉터, ArgumentResolver, 컨트롤러는 토큰을 다시 파싱하지 않고 이 값을 사용한다.
+ */
+public final class AuthContext {
+
+    private static final String ATTRIBUTE_NAME = AuthContext.class.getName();
+
+    private AuthContext() {
+    }
+
+    public static void bind(ServletRequest request, AuthUser authUser) {
+        request.setAttribute(ATTRIBUTE_NAME, authUser);
+    }
+
+    public static AuthUser get(ServletRequest request) {
+        return (AuthUser) request.getAttribute(ATTRIBUTE_NAME);
+    }
+}
@@ -11,12 +11,13 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
     private final ObjectMapper objectMapper;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil, objectMapper));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, jwtTokenCache, objectMapper));
         registrationBean.addUrlPatterns("/*");
 
         return registrationBean;
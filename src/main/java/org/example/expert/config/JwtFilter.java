@@ -10,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.http.HttpStatus;
 
@@ -22,6 +23,7 @@ import java.util.Map;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final JwtTokenCache jwtTokenCache;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -47,22 +49,31 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                log.warn("Claims 추출 실패: URI={}", url);
-                sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
-                return;
+            // 이미 검증된 토큰이면 서명 검증과 claims 파싱을 생략
+            AuthUser authUser = jwtTokenCache.get(jwt);
+            if (authUser == null) {
+                // JWT 유효성 검사와 claims 추출
+                Claims claims = jwtUtil.extractClaims(jwt);
+                if (claims == null) {
+                    log.warn("Claims 추출 실패: URI={}", url);
+                    sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+                    return;
+                }
+
+                authUser = new AuthUser(
+                        Long.parseLong(claims.getSubject()),
+                        claims.get("email", String.class),
+                        UserRole.valueOf(claims.get("userRole", String.class))
+                );
+                jwtTokenCache.put(jwt, authUser, claims.getExpiration());
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            UserRole userRole = authUser.getUserRole();
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            AuthContext.bind(httpRequest, authUser);
 
             if (url.startsWith("/admin") && !UserRole.ADMIN.equals(userRole)) {
-                log.warn("권한 부족: userId={}, role={}, URI={}", claims.getSubject(), userRole, url);
+                log.warn("권한 부족: userId={}, role={}, URI={}", authUser.getId(), userRole, url);
                 sendErrorResponse(httpResponse, HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
                 return;
             }
@@ -0,0 +1,88 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰의 인증 정보를 보관하는 캐시.
+ * 토큰 원문 대신 SHA-256 digest 를 키로 사용하고, 각 엔트리는 토큰의 exp 시각에 만료된다.
+ */
+@Component
+public class JwtTokenCache {
+
+    private final Cache<String, CachedToken> cache;
+
+    public JwtTokenCache(@Value("${jwt.cache.max-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    public AuthUser get(String token) {
+        CachedToken cachedToken = cache.getIfPresent(digest(token));
+        return cachedToken != null ? cachedToken.authUser() : null;
+    }
+
+    public void put(String token, AuthUser authUser, Date expiration) {
+        // exp 가 없거나 이미 만료된 토큰은 캐시하지 않음
+        if (expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        cache.put(digest(token), new CachedToken(authUser, expiration.getTime()));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ServerException("SHA-256 알고리즘을 사용할 수 없습니다.");
+        }
+    }
+
+    private record CachedToken(AuthUser authUser, long expiresAtMillis) {
+    }
+
+    private static class TokenExpiry implements Expiry<String, CachedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.expert.domain.comment.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
@@ -8,10 +10,13 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,7 +34,26 @@ public class CommentController {
     }
 
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId, WebRequest webRequest) {
+        Optional<String> eTag = commentService.getCommentsETag(todoId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    @GetMapping("/todos/{todoId}/comments/cursor")
+    public ResponseEntity<CursorResponse<CommentResponse>> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            WebRequest webRequest
+    ) {
+        // ETag 는 일정의 댓글 전체 기준이라 어떤 댓글이 바뀌어도 모든 페이지가 다시 내려감
+        Optional<String> eTag = commentService.getCommentsETag(todoId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
+    }
 }
@@ -0,0 +1,16 @@
+package org.example.expert.domain.comment.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정의 댓글 목록 응답의 ETag 계산용 버전 정보. 댓글 수와 가장 최근 수정 시각으로 변경 여부를 판단한다.
+ */
+public record CommentsVersion(
+        Long todoId,
+        Long count,
+        LocalDateTime lastModifiedAt
+) {
+    public String toETag() {
+        return "comments-" + todoId + "-" + count + "-" + lastModifiedAt;
+    }
+}
@@ -3,6 +3,7 @@ package org.example.expert.domain.comment.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.annotation.SnowflakeId;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
@@ -10,10 +11,11 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+// 일정별 댓글을 최신순으로 keyset 페이징
+@Table(name = "comments", indexes = @Index(name = "idx_comments_todo_id_created_at_id", columnList = "todo_id, created_at DESC, id DESC"))
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @SnowflakeId
     private Long id;
     private String contents;
 
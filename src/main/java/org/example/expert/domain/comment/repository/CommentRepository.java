@@ -1,14 +1,57 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.CommentsVersion;
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT c FROM Comment c " +
+            "JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findFirstPageByTodoId(@Param("todoId") Long todoId, Pageable pageable);
+
+    // (todo_id, created_at, id) 인덱스를 따라 커서 이후의 행만 읽음
+    @Query("SELECT c FROM Comment c " +
+            "JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId " +
+            "AND c.createdAt <= :createdAt " +
+            "AND (c.createdAt < :createdAt OR c.id < :commentId) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findNextPageByTodoId(@Param("todoId") Long todoId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("commentId") Long commentId,
+                                       Pageable pageable);
+
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findTodoIdById(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :commentId")
+    int deleteCommentById(@Param("commentId") Long commentId);
+
+    // 아직 반영되지 않은 변경이 있으면 먼저 flush 한 뒤 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.todo.id IN :todoIds")
+    int deleteAllByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 일정이 없으면 결과가 없도록 일정 기준으로 집계
+    @Query("SELECT new org.example.expert.domain.comment.dto.CommentsVersion(t.id, COUNT(c), MAX(c.modifiedAt)) " +
+            "FROM Todo t LEFT JOIN t.comments c " +
+            "WHERE t.id = :todoId " +
+            "GROUP BY t.id")
+    Optional<CommentsVersion> findVersionByTodoId(@Param("todoId") Long todoId);
 }
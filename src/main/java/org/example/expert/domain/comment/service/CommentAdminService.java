@@ -2,17 +2,37 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.dto.TodoEvent;
+import org.example.expert.domain.todo.enums.TodoEventType;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final TodoCache todoCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        Optional<Long> todoId = commentRepository.findTodoIdById(commentId);
+        if (todoId.isEmpty()) {
+            return;
+        }
+
+        // 실제로 삭제된 경우에만 카운터를 줄여 동시에 삭제 요청이 와도 한 번만 반영
+        if (commentRepository.deleteCommentById(commentId) > 0) {
+            todoRepository.adjustCommentCount(todoId.get(), -1);
+            todoCache.evict(todoId.get());
+            eventPublisher.publishEvent(TodoEvent.of(TodoEventType.COMMENT_DELETED, todoId.get(), commentId, null, null));
+        }
     }
 }
@@ -1,22 +1,31 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.CommentsVersion;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
-import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.dto.TodoEvent;
+import org.example.expert.domain.todo.enums.TodoEventType;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -24,28 +33,68 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final TodoCache todoCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+
+        // 카운터 UPDATE 가 0 건이면 일정이 없는 것. 일정은 조회하지 않고 INSERT 에 필요한 참조만 연결
+        if (todoRepository.adjustCommentCount(todoId, 1) == 0) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
                 user,
-                todo
+                todoRepository.getReferenceById(todoId)
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoCache.evict(todoId);
+        eventPublisher.publishEvent(TodoEvent.of(TodoEventType.COMMENT_CREATED, todoId, savedComment.getId(), null, null));
 
         return CommentSaveResponse.of(savedComment, UserResponse.of(user));
     }
 
+    @Transactional(readOnly = true)
+    public Optional<String> getCommentsETag(long todoId) {
+        return commentRepository.findVersionByTodoId(todoId).map(CommentsVersion::toETag);
+    }
+
     @Transactional(readOnly = true)
     public List<CommentResponse> getComments(long todoId) {
         return commentRepository.findByTodoIdWithUser(todoId).stream()
                 .map(comment -> CommentResponse.of(comment, UserResponse.of(comment.getUser())))
                 .toList();
     }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getCommentsByCursor(long todoId, String cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<Comment> comments;
+        if (cursor == null) {
+            comments = commentRepository.findFirstPageByTodoId(todoId, limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            comments = commentRepository.findNextPageByTodoId(todoId, keysetCursor.timestamp(), keysetCursor.id(), limit);
+        }
+
+        boolean hasNext = comments.size() > size;
+        List<Comment> content = hasNext ? comments.subList(0, size) : comments;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorResponse.of(
+                content.stream().map(comment -> CommentResponse.of(comment, UserResponse.of(comment.getUser()))).toList(),
+                nextCursor
+        );
+    }
 }
@@ -0,0 +1,18 @@
+package org.example.expert.domain.common.annotation;
+
+import org.example.expert.domain.common.entity.SnowflakeIdGenerator;
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 시간순 64bit ID 를 생성한다. INSERT 전에 ID 가 정해지므로 JDBC 배치 INSERT 가 가능하다.
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SnowflakeId {
+}
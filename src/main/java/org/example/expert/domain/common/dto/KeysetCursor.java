@@ -0,0 +1,34 @@
+package org.example.expert.domain.common.dto;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (정렬 시각, id) 기준 keyset 페이지네이션 커서.
+ * 클라이언트에는 내부 구조를 알 수 없도록 Base64 URL 문자열로 전달한다.
+ */
+public record KeysetCursor(
+        LocalDateTime timestamp,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("유효하지 않은 cursor 입니다.");
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.expert.domain.common.entity;
+
+import org.example.expert.domain.common.annotation.SnowflakeId;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식 ID 생성기.
+ * [41bit 타임스탬프(ms, EPOCH 기준)][10bit 노드 ID][12bit 시퀀스] 로 구성되어
+ * 노드마다 다른 node-id 를 지정하면 여러 인스턴스에서도 ID 가 겹치지 않는다.
+ */
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "snowflake.node-id";
+
+    static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_ID_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public SnowflakeIdGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        this(resolveNodeId(context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSetting(NODE_ID_SETTING, StandardConverters.STRING)));
+    }
+
+    // 기본값으로 대신하면 여러 인스턴스가 같은 노드 ID 로 겹치는 ID 를 만들 수 있으므로, 없거나 숫자가 아니면 시작하지 않음
+    static long resolveNodeId(String setting) {
+        if (setting == null || setting.isBlank()) {
+            throw new IllegalArgumentException(NODE_ID_SETTING + " 가 지정되지 않았습니다. NODE_ID 환경 변수를 지정하세요.");
+        }
+        try {
+            return Long.parseLong(setting.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    NODE_ID_SETTING + " 는 숫자여야 합니다. NODE_ID 환경 변수를 확인하세요. value=" + setting);
+        }
+    }
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node-id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다. nodeId=" + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    public synchronized long nextId() {
+        long timestamp = clock.getAsLong();
+
+        // 시계가 뒤로 간 경우 마지막 타임스탬프를 계속 사용해 ID 가 역전되지 않도록 함
+        if (timestamp < lastTimestamp) {
+            timestamp = lastTimestamp;
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms 안에서 시퀀스를 다 쓰면 다음 ms 까지 대기
+                timestamp = waitNextMillis(lastTimestamp);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_ID_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private long waitNextMillis(long lastTimestamp) {
+        long timestamp = clock.getAsLong();
+        while (timestamp <= lastTimestamp) {
+            Thread.onSpinWait();
+            timestamp = clock.getAsLong();
+        }
+        return timestamp;
+    }
+}
@@ -1,26 +1,30 @@
 package org.example.expert.domain.manager.controller;
 
-import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 public class ManagerController {
 
     private final ManagerService managerService;
-    private final JwtUtil jwtUtil;
 
     @PostMapping("/todos/{todoId}/managers")
     public ResponseEntity<ManagerSaveResponse> saveManager(
@@ -31,19 +35,39 @@ public class ManagerController {
         return ResponseEntity.ok(managerService.saveManager(authUser, todoId, managerSaveRequest));
     }
 
+    @PostMapping("/todos/{todoId}/managers/batch")
+    public ResponseEntity<List<ManagerSaveResponse>> saveManagers(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody ManagerBatchSaveRequest managerBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(managerService.saveManagers(authUser, todoId, managerBatchSaveRequest));
+    }
+
     @GetMapping("/todos/{todoId}/managers")
-    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
+    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId, WebRequest webRequest) {
+        Optional<String> eTag = managerService.getManagersETag(todoId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
         return ResponseEntity.ok(managerService.getManagers(todoId));
     }
 
+    @GetMapping("/users/me/managed-todos")
+    public ResponseEntity<CursorResponse<TodoSummaryResponse>> getManagedTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        return ResponseEntity.ok(managerService.getManagedTodos(authUser.getId(), cursor, size));
+    }
+
     @DeleteMapping("/todos/{todoId}/managers/{managerId}")
     public void deleteManager(
-            @RequestHeader("Authorization") String bearerToken,
+            @Auth AuthUser authUser,
             @PathVariable long todoId,
             @PathVariable long managerId
     ) {
-        Claims claims = jwtUtil.extractClaims(bearerToken.substring(7));
-        long userId = Long.parseLong(claims.getSubject());
-        managerService.deleteManager(userId, todoId, managerId);
+        managerService.deleteManager(authUser.getId(), todoId, managerId);
     }
 }
@@ -0,0 +1,15 @@
+package org.example.expert.domain.manager.dto;
+
+/**
+ * 일정의 담당자 목록 응답의 ETag 계산용 버전 정보.
+ * 담당자는 수정 시각이 없으므로 담당자 수와 가장 큰 id(시간순 Snowflake ID)로 변경 여부를 판단한다.
+ */
+public record ManagersVersion(
+        Long todoId,
+        Long count,
+        Long lastId
+) {
+    public String toETag() {
+        return "managers-" + todoId + "-" + count + "-" + lastId;
+    }
+}
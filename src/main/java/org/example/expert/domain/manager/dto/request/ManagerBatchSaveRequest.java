@@ -0,0 +1,20 @@
+package org.example.expert.domain.manager.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerBatchSaveRequest {
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<@NotNull Long> managerUserIds;
+}
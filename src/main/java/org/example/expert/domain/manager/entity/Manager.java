@@ -3,16 +3,18 @@ package org.example.expert.domain.manager.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.annotation.SnowflakeId;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+// 내가 담당한 일정 목록: user_id 로 찾고 todo_id 순으로 keyset 페이징
+@Table(name = "managers", indexes = @Index(name = "idx_managers_user_id_todo_id", columnList = "user_id, todo_id"))
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
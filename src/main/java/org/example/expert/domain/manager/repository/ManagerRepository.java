@@ -1,13 +1,54 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.ManagersVersion;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // (user_id, todo_id) 인덱스를 역순으로 읽어 커서 이후의 행만 조회. id 는 생성 시각 순이므로 최신 일정부터 반환
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoSummaryResponse(" +
+            "t.id, t.title, t.weather, t.commentCount, t.managerCount, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Manager m JOIN m.todo t JOIN t.user u " +
+            "WHERE m.user.id = :userId AND m.todo.id < :lastTodoId " +
+            "ORDER BY m.todo.id DESC")
+    List<TodoSummaryResponse> findManagedTodos(@Param("userId") Long userId,
+                                               @Param("lastTodoId") Long lastTodoId,
+                                               Pageable pageable);
+
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId AND m.user.id IN :userIds")
+    List<Long> findUserIdsByTodoIdAndUserIdIn(@Param("todoId") Long todoId, @Param("userIds") Collection<Long> userIds);
+
+    // 일정 작성자가 아니거나 다른 일정의 담당자면 비어 있음. 해제 알림을 받을 담당자 유저 id 를 함께 구함
+    @Query("SELECT m.user.id FROM Manager m " +
+            "WHERE m.id = :managerId AND m.todo.id = :todoId AND m.todo.user.id = :userId")
+    Optional<Long> findUserIdByIdAndTodoIdAndOwnerId(@Param("managerId") Long managerId,
+                                                     @Param("todoId") Long todoId,
+                                                     @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId AND m.todo.id = :todoId")
+    int deleteByIdAndTodoId(@Param("managerId") Long managerId, @Param("todoId") Long todoId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Manager m WHERE m.todo.id IN :todoIds")
+    int deleteAllByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 일정이 없으면 결과가 없도록 일정 기준으로 집계
+    @Query("SELECT new org.example.expert.domain.manager.dto.ManagersVersion(t.id, COUNT(m), MAX(m.id)) " +
+            "FROM Todo t LEFT JOIN t.managers m " +
+            "WHERE t.id = :todoId " +
+            "GROUP BY t.id")
+    Optional<ManagersVersion> findVersionByTodoId(@Param("todoId") Long todoId);
 }
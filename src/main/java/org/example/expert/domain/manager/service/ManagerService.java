@@ -2,24 +2,39 @@ package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.ManagersVersion;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoEvent;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoEventType;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,29 +43,79 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final TodoCache todoCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
-        // 일정을 만든 유저
-        User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        // 작성자 확인과 카운터 증가를 조건부 UPDATE 한 번으로 처리 (0 건이면 일정이 없거나 작성자가 아님)
+        if (todoRepository.adjustManagerCountByOwner(todoId, authUser.getId(), 1) == 0) {
+            throw ownerCheckFailure(todoId, "일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
+        }
 
-        if (Objects.isNull(todo.getUser()) || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
+        if (ObjectUtils.nullSafeEquals(authUser.getId(), managerSaveRequest.getManagerUserId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
         User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
                 .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
 
-        if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
+        // 일정은 INSERT 에 id 만 필요하므로 조회하지 않고 프록시로 참조
+        Manager newManagerUser = new Manager(managerUser, todoRepository.getReferenceById(todoId));
+        Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoCache.evict(todoId);
+        eventPublisher.publishEvent(TodoEvent.of(
+                TodoEventType.MANAGER_ADDED, todoId, savedManagerUser.getId(), authUser.getId(), managerUser.getId()));
+
+        return ManagerSaveResponse.of(savedManagerUser, UserResponse.of(managerUser));
+    }
+
+    /**
+     * 여러 담당자를 한 번에 지정한다.
+     * 작성자 확인을 겸한 카운터 갱신, 유저 조회(IN), 중복 확인(IN), 배치 INSERT 로 인원 수와 관계없이 쿼리 수가 고정된다.
+     * 검증에 실패하면 예외로 트랜잭션이 롤백되어 카운터도 되돌아간다.
+     */
+    @Transactional
+    public List<ManagerSaveResponse> saveManagers(AuthUser authUser, long todoId, ManagerBatchSaveRequest managerBatchSaveRequest) {
+        Set<Long> managerUserIds = new LinkedHashSet<>(managerBatchSaveRequest.getManagerUserIds());
+        if (todoRepository.adjustManagerCountByOwner(todoId, authUser.getId(), managerUserIds.size()) == 0) {
+            throw ownerCheckFailure(todoId, "일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
+        }
+
+        if (managerUserIds.contains(authUser.getId())) {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
-        Manager savedManagerUser = managerRepository.save(newManagerUser);
+        Map<Long, User> usersById = userRepository.findAllById(managerUserIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        if (usersById.size() != managerUserIds.size()) {
+            List<Long> missing = managerUserIds.stream().filter(id -> !usersById.containsKey(id)).toList();
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다. userIds=" + missing);
+        }
 
-        return ManagerSaveResponse.of(savedManagerUser, UserResponse.of(managerUser));
+        List<Long> duplicated = managerRepository.findUserIdsByTodoIdAndUserIdIn(todoId, managerUserIds);
+        if (!duplicated.isEmpty()) {
+            throw new InvalidRequestException("이미 등록된 담당자입니다. userIds=" + duplicated);
+        }
+
+        // 일정은 INSERT 에 id 만 필요하므로 조회하지 않고 프록시로 참조
+        Todo todo = todoRepository.getReferenceById(todoId);
+        List<Manager> newManagers = managerUserIds.stream()
+                .map(id -> new Manager(usersById.get(id), todo))
+                .toList();
+        managerRepository.saveAll(newManagers);
+        todoCache.evict(todoId);
+        newManagers.forEach(manager -> eventPublisher.publishEvent(TodoEvent.of(
+                TodoEventType.MANAGER_ADDED, todoId, manager.getId(), authUser.getId(), manager.getUser().getId())));
+
+        return newManagers.stream()
+                .map(manager -> ManagerSaveResponse.of(manager, UserResponse.of(manager.getUser())))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> getManagersETag(long todoId) {
+        return managerRepository.findVersionByTodoId(todoId).map(ManagersVersion::toETag);
     }
 
     @Transactional(readOnly = true)
@@ -63,25 +128,63 @@ public class ManagerService {
                 .toList();
     }
 
+    /**
+     * 유저가 담당자로 지정된 일정을 최신순으로 조회한다. 커서는 이전 페이지 마지막 일정의 (생성 시각, id) 이다.
+     * 일정 id 가 생성 시각 순이므로 다음 페이지는 커서의 id 만으로 이어서 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<TodoSummaryResponse> getManagedTodos(long userId, String cursor, int size) {
+        long lastTodoId = cursor == null ? Long.MAX_VALUE : KeysetCursor.decode(cursor).id();
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<TodoSummaryResponse> todos = managerRepository.findManagedTodos(userId, lastTodoId, PageRequest.of(0, size + 1));
+
+        boolean hasNext = todos.size() > size;
+        List<TodoSummaryResponse> content = hasNext ? todos.subList(0, size) : todos;
+        String nextCursor = null;
+        if (hasNext) {
+            TodoSummaryResponse last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return CursorResponse.of(content, nextCursor);
+    }
+
     @Transactional
     public void deleteManager(long userId, long todoId, long managerId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
+        // 작성자 확인과 담당자 소속 확인을 한 번의 조회로 처리하면서 해제 알림을 받을 유저 id 를 구함
+        Long managerUserId = managerRepository.findUserIdByIdAndTodoIdAndOwnerId(managerId, todoId, userId)
+                .orElseThrow(() -> deleteFailure(userId, todoId, managerId));
 
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        // 같은 담당자가 동시에 삭제된 경우 카운터를 두 번 줄이지 않도록 삭제 건수를 확인
+        if (managerRepository.deleteByIdAndTodoId(managerId, todoId) == 0) {
+            throw new InvalidRequestException("Manager not found");
         }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
+        todoRepository.adjustManagerCount(todoId, -1);
+        todoCache.evict(todoId);
+        eventPublisher.publishEvent(TodoEvent.of(TodoEventType.MANAGER_REMOVED, todoId, managerId, userId, managerUserId));
+    }
 
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
-            throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
+    // 조건부 UPDATE / DELETE 가 0 건일 때만 원인을 조회해 오류 메시지를 구분
+    private InvalidRequestException ownerCheckFailure(long todoId, String message) {
+        if (todoRepository.findUserIdById(todoId).isEmpty()) {
+            return new InvalidRequestException("Todo not found");
         }
+        return new InvalidRequestException(message);
+    }
 
-        managerRepository.delete(manager);
+    private InvalidRequestException deleteFailure(long userId, long todoId, long managerId) {
+        Optional<Long> ownerId = todoRepository.findUserIdById(todoId);
+        if (ownerId.isEmpty()) {
+            return new InvalidRequestException("Todo not found");
+        }
+        if (!ownerId.get().equals(userId)) {
+            return new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        }
+        if (!managerRepository.existsById(managerId)) {
+            return new InvalidRequestException("Manager not found");
+        }
+        return new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
     }
 }
@@ -0,0 +1,76 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.request.TodoBulkDeleteRequest;
+import org.example.expert.domain.todo.dto.response.TodoCounterRepairResponse;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.enums.TodoFileFormat;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.example.expert.domain.todo.service.TodoCounterRepairJob;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoCounterRepairJob todoCounterRepairJob;
+    private final TodoExportService todoExportService;
+    private final TodoImportService todoImportService;
+    private final TodoAdminService todoAdminService;
+
+    @GetMapping("/admin/todos/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(@RequestParam(defaultValue = "ndjson") String format) {
+        TodoFileFormat fileFormat = TodoFileFormat.of(format);
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("todos." + fileFormat.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(fileFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(outputStream -> todoExportService.export(fileFormat, outputStream));
+    }
+
+    // 파일은 multipart 가 아닌 요청 본문 그대로 받아 임시 파일이나 메모리에 쌓지 않고 읽음
+    @PostMapping("/admin/todos/import/{importId}")
+    public ResponseEntity<TodoImportResponse> importTodos(
+            @PathVariable @Pattern(regexp = "[A-Za-z0-9_-]{1,64}") String importId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            InputStream inputStream
+    ) throws IOException {
+        return ResponseEntity.ok(todoImportService.importTodos(importId, TodoFileFormat.of(format), inputStream));
+    }
+
+    @GetMapping("/admin/todos/import/{importId}")
+    public ResponseEntity<TodoImportResponse> getImportProgress(@PathVariable String importId) {
+        return ResponseEntity.ok(todoImportService.getProgress(importId));
+    }
+
+    // 요청 본문이 필요해 DELETE 대신 POST 사용
+    @PostMapping("/admin/todos/delete")
+    public ResponseEntity<TodoDeleteResponse> deleteTodos(@Valid @RequestBody TodoBulkDeleteRequest todoBulkDeleteRequest) {
+        return ResponseEntity.ok(todoAdminService.deleteTodos(todoBulkDeleteRequest));
+    }
+
+    @PostMapping("/admin/todos/counters/repair")
+    public ResponseEntity<TodoCounterRepairResponse> repairCounters() {
+        return ResponseEntity.ok(new TodoCounterRepairResponse(todoCounterRepairJob.repair()));
+    }
+}
@@ -1,22 +1,36 @@
 package org.example.expert.domain.todo.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoFullResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.service.TodoSearchService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoSearchService todoSearchService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,6 +40,14 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    @PostMapping("/todos/batch")
+    public ResponseEntity<TodoBatchSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBatchSaveRequest));
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
@@ -34,8 +56,49 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    @GetMapping("/todos/summary")
+    public ResponseEntity<Page<TodoSummaryResponse>> getTodoSummaries(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(1000) int previewLength
+    ) {
+        return ResponseEntity.ok(todoService.getTodoSummaries(page, size, previewLength));
+    }
+
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    @GetMapping("/todos/search")
+    public ResponseEntity<List<TodoSummaryResponse>> searchTodos(
+            @RequestParam @NotBlank String query,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(1000) int previewLength
+    ) {
+        return ResponseEntity.ok(todoSearchService.search(query, size, previewLength));
+    }
+
+    @GetMapping("/todos/{todoId}/full")
+    public ResponseEntity<TodoFullResponse> getTodoFull(@PathVariable long todoId) {
+        return ResponseEntity.ok(todoService.getTodoFull(todoId));
+    }
+
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        // ETag 는 내려줄 본문에서 계산해 본문과 ETag 가 항상 같은 버전을 가리키게 함. 바뀌지 않았으면 본문 없이 304 응답
+        TodoResponse todo = todoService.getTodo(todoId);
+        if (webRequest.checkNotModified(TodoVersion.of(todo).toETag())) {
+            return null;
+        }
+        return ResponseEntity.ok(todo);
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(@Auth AuthUser authUser, @PathVariable long todoId) {
+        todoService.deleteTodo(authUser.getId(), todoId);
     }
 }
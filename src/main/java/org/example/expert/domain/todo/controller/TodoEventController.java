@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.service.TodoEventBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoEventController {
+
+    private final TodoEventBroadcaster todoEventBroadcaster;
+
+    // 댓글 / 담당자 목록을 주기적으로 조회하는 대신 변경 알림을 받은 뒤에만 다시 조회
+    @GetMapping(value = "/todos/{todoId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTodo(@PathVariable long todoId) {
+        return todoEventBroadcaster.subscribeTodo(todoId);
+    }
+
+    // 내가 작성한 일정의 변경과 나를 담당자로 지정 / 해제한 알림
+    @GetMapping(value = "/users/me/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeUser(@Auth AuthUser authUser) {
+        return todoEventBroadcaster.subscribeUser(authUser.getId());
+    }
+}
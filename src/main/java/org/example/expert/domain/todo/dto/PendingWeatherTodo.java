@@ -0,0 +1,10 @@
+package org.example.expert.domain.todo.dto;
+
+import java.time.LocalDateTime;
+
+public record PendingWeatherTodo(
+        Long id,
+        Long userId,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.dto;
+
+import org.example.expert.domain.todo.enums.TodoEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 변경 알림. 트랜잭션 안에서 발행되고 커밋된 뒤에만 구독자에게 전달된다.
+ * ownerId 는 발행 시점에 알고 있는 경우에만 채우며, 비어 있으면 유저 구독자가 있을 때 전달 전에 조회한다.
+ * userId 는 담당자 지정처럼 일정 작성자 외에 직접 영향을 받는 유저이다.
+ */
+public record TodoEvent(
+        TodoEventType type,
+        long todoId,
+        Long targetId,
+        Long ownerId,
+        Long userId,
+        LocalDateTime occurredAt
+) {
+    public static TodoEvent of(TodoEventType type, long todoId, Long targetId, Long ownerId, Long userId) {
+        return new TodoEvent(type, todoId, targetId, ownerId, userId, LocalDateTime.now());
+    }
+
+    public TodoEvent withOwnerId(Long ownerId) {
+        return new TodoEvent(type, todoId, targetId, ownerId, userId, occurredAt);
+    }
+}
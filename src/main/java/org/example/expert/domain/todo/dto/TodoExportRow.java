@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto;
+
+import java.time.LocalDateTime;
+
+public record TodoExportRow(
+        Long id,
+        String title,
+        String contents,
+        String weather,
+        long commentCount,
+        long managerCount,
+        Long authorId,
+        String authorEmail,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto;
+
+import org.example.expert.domain.todo.entity.Todo;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검색 색인 갱신 이벤트. 트랜잭션 안에서 발행되고 커밋된 뒤에만 색인에 반영된다.
+ * TodoEvent 는 id 만 담기 때문에 색인에서 본문을 다시 조회해야 하므로,
+ * 대량 저장 / 가져오기에서 일정마다 쿼리가 나가지 않도록 저장한 본문을 그대로 담는다.
+ */
+public record TodoIndexEvent(
+        List<TodoSearchDocument> upserts,
+        Collection<Long> removedTodoIds
+) {
+    public static TodoIndexEvent upserted(Collection<Todo> todos) {
+        return new TodoIndexEvent(todos.stream().map(TodoSearchDocument::of).toList(), List.of());
+    }
+
+    public static TodoIndexEvent removed(Collection<Long> todoIds) {
+        return new TodoIndexEvent(List.of(), List.copyOf(todoIds));
+    }
+}
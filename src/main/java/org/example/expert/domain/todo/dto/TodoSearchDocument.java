@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto;
+
+import org.example.expert.domain.todo.entity.Todo;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인에 넣는 일정 본문. 시작 시 전체 스캔과 변경 이벤트에서 같은 형태로 사용한다.
+ */
+public record TodoSearchDocument(
+        long id,
+        String title,
+        String contents,
+        LocalDateTime modifiedAt
+) {
+    public static TodoSearchDocument of(Todo todo) {
+        return new TodoSearchDocument(todo.getId(), todo.getTitle(), todo.getContents(), todo.getModifiedAt());
+    }
+}
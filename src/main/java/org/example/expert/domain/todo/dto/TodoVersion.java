@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.dto;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 일정 단건 응답의 ETag 계산용 버전 정보.
+ * 날씨 백필과 카운터 증감은 벌크 UPDATE 라 modifiedAt 이 바뀌지 않으므로 weather 와 카운터도 함께 반영한다.
+ * 실제로 내려주는 본문과 어긋나지 않도록 별도 조회가 아니라 응답(TodoResponse)에서 계산한다.
+ */
+public record TodoVersion(
+        Long id,
+        LocalDateTime modifiedAt,
+        String weather,
+        long commentCount,
+        long managerCount
+) {
+    public static TodoVersion of(TodoResponse todo) {
+        return new TodoVersion(todo.id(), todo.modifiedAt(), todo.weather(), todo.commentCount(), todo.managerCount());
+    }
+
+    public String toETag() {
+        return "todo-" + id + "-" + modifiedAt + "-" + Integer.toHexString(Objects.hashCode(weather))
+                + "-" + commentCount + "-" + managerCount;
+    }
+}
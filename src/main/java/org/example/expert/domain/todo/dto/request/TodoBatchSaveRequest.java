@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchSaveRequest {
+
+    // 항목별 검증은 서비스에서 수행해 실패한 항목만 결과에 표시
+    @NotEmpty
+    @Size(max = 1000)
+    private List<TodoSaveRequest> todos;
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkDeleteRequest {
+
+    // todoIds 또는 생성일 범위 [from, to) 중 하나만 지정
+    @Size(max = 1000)
+    private List<Long> todoIds;
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
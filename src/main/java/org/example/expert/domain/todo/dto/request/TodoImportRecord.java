@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가져오기 파일의 한 레코드. NDJSON 은 한 줄에 일정 하나와 그 댓글 목록, CSV 는 한 행에 일정 하나(댓글 없음)이다.
+ * createdAt / modifiedAt 은 선택이며, 있으면 원본 시각을 그대로 유지한다.
+ */
+public record TodoImportRecord(
+        String title,
+        String contents,
+        String weather,
+        String authorEmail,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        List<CommentRecord> comments
+) {
+    public record CommentRecord(
+            String contents,
+            String authorEmail
+    ) {
+    }
+}
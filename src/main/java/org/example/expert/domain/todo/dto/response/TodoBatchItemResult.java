@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.dto.response;
+
+public record TodoBatchItemResult(
+        int index,
+        boolean success,
+        Long id,
+        String message
+) {
+    public static TodoBatchItemResult success(int index, Long id) {
+        return new TodoBatchItemResult(index, true, id, null);
+    }
+
+    public static TodoBatchItemResult failure(int index, String message) {
+        return new TodoBatchItemResult(index, false, null, message);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.util.List;
+
+public record TodoBatchSaveResponse(
+        int total,
+        int succeeded,
+        int failed,
+        String weather,
+        UserResponse user,
+        List<TodoBatchItemResult> results
+) {
+    public static TodoBatchSaveResponse of(String weather, UserResponse userResponse, List<TodoBatchItemResult> results) {
+        int succeeded = (int) results.stream().filter(TodoBatchItemResult::success).count();
+        return new TodoBatchSaveResponse(results.size(), succeeded, results.size() - succeeded, weather, userResponse, results);
+    }
+}
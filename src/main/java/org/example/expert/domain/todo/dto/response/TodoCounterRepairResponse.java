@@ -0,0 +1,6 @@
+package org.example.expert.domain.todo.dto.response;
+
+public record TodoCounterRepairResponse(
+        int processed
+) {
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.response;
+
+public record TodoDeleteResponse(
+        int deletedTodos,
+        int deletedManagers,
+        int deletedComments
+) {
+
+    public static TodoDeleteResponse empty() {
+        return new TodoDeleteResponse(0, 0, 0);
+    }
+
+    public TodoDeleteResponse plus(TodoDeleteResponse other) {
+        return new TodoDeleteResponse(
+                deletedTodos + other.deletedTodos,
+                deletedManagers + other.deletedManagers,
+                deletedComments + other.deletedComments
+        );
+    }
+}
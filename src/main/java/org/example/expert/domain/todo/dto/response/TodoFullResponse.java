@@ -0,0 +1,13 @@
+package org.example.expert.domain.todo.dto.response;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+import java.util.List;
+
+public record TodoFullResponse(
+        TodoResponse todo,
+        List<ManagerResponse> managers,
+        List<CommentResponse> comments
+) {
+}
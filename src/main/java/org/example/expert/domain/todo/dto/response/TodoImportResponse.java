@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto.response;
+
+import org.example.expert.domain.todo.entity.ImportCheckpoint;
+import org.example.expert.domain.todo.enums.ImportStatus;
+
+import java.time.LocalDateTime;
+
+public record TodoImportResponse(
+        String importId,
+        ImportStatus status,
+        long processedRecords,
+        long importedTodos,
+        long importedComments,
+        long failedRecords,
+        String lastError,
+        LocalDateTime startedAt,
+        LocalDateTime updatedAt
+) {
+    public static TodoImportResponse of(ImportCheckpoint checkpoint) {
+        return new TodoImportResponse(checkpoint.getImportId(), checkpoint.getStatus(), checkpoint.getProcessedRecords(),
+                checkpoint.getImportedTodos(), checkpoint.getImportedComments(), checkpoint.getFailedRecords(),
+                checkpoint.getLastError(), checkpoint.getCreatedAt(), checkpoint.getModifiedAt());
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.domain.todo.dto.response;
 
 import lombok.Getter;
+import org.example.expert.domain.todo.entity.ArchivedTodo;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
@@ -11,12 +12,19 @@ public record TodoResponse (
     String title,
     String contents,
     String weather,
+    long commentCount,
+    long managerCount,
     UserResponse user,
     LocalDateTime createdAt,
     LocalDateTime modifiedAt
 ){
     public static TodoResponse of(Todo todo, UserResponse user) {
         return new TodoResponse(todo.getId(), todo.getTitle(), todo.getContents(), todo.getWeather(),
-                user, todo.getCreatedAt(), todo.getModifiedAt());
+                todo.getCommentCount(), todo.getManagerCount(), user, todo.getCreatedAt(), todo.getModifiedAt());
+    }
+
+    public static TodoResponse of(ArchivedTodo todo, UserResponse user) {
+        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getContents(), todo.getWeather(),
+                todo.getCommentCount(), todo.getManagerCount(), user, todo.getCreatedAt(), todo.getModifiedAt());
     }
 }
\ No newline at end of file
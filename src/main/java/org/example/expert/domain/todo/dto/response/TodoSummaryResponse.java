@@ -0,0 +1,31 @@
+package org.example.expert.domain.todo.dto.response;
+
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 요약 응답. 엔티티를 거치지 않고 JPQL 생성자 표현식으로 필요한 컬럼만 조회한다.
+ * contents 는 요청한 길이만큼 잘라서 조회하며, 요청하지 않으면 null 이다.
+ */
+public record TodoSummaryResponse(
+        Long id,
+        String title,
+        String contents,
+        String weather,
+        long commentCount,
+        long managerCount,
+        UserResponse user,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {
+    public TodoSummaryResponse(Long id, String title, String weather, long commentCount, long managerCount,
+                               Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, null, weather, commentCount, managerCount, new UserResponse(userId, email), createdAt, modifiedAt);
+    }
+
+    public TodoSummaryResponse(Long id, String title, String contents, String weather, long commentCount, long managerCount,
+                               Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, commentCount, managerCount, new UserResponse(userId, email), createdAt, modifiedAt);
+    }
+}
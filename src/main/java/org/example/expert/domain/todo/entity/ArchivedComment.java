@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "comments_archive", indexes = @Index(name = "idx_comments_archive_todo_id", columnList = "todo_id"))
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+    private String contents;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "managers_archive", indexes = @Index(name = "idx_managers_archive_todo_id", columnList = "todo_id"))
+public class ArchivedManager {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+}
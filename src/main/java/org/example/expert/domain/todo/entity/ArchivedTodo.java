@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 일정을 옮겨두는 보관 테이블. TodoArchiver 의 INSERT ... SELECT 로만 채워지며 원본의 id 와 작성 / 수정 시각을 그대로 유지한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todos_archive")
+public class ArchivedTodo {
+
+    @Id
+    private Long id;
+    private String title;
+    private String contents;
+    private String weather;
+    private long commentCount;
+    private long managerCount;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
+    private User user;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    private LocalDateTime archivedAt;
+}
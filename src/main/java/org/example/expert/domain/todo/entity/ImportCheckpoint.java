@@ -0,0 +1,69 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.todo.enums.ImportStatus;
+
+/**
+ * 일정 가져오기 진행 상황. 청크를 저장하는 트랜잭션에서 함께 갱신되므로
+ * processedRecords 까지는 정확히 한 번 반영된 상태이고, 같은 importId 로 다시 요청하면 그 다음 레코드부터 이어서 진행한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "import_checkpoints")
+public class ImportCheckpoint extends Timestamped {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id
+    @Column(length = 64)
+    private String importId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportStatus status;
+
+    private long processedRecords;
+    private long importedTodos;
+    private long importedComments;
+    private long failedRecords;
+    private String lastError;
+
+    public ImportCheckpoint(String importId) {
+        this.importId = importId;
+        this.status = ImportStatus.IN_PROGRESS;
+    }
+
+    public void resume() {
+        this.status = ImportStatus.IN_PROGRESS;
+    }
+
+    public void advance(int processed, int todos, int comments, int failed, String lastError) {
+        this.processedRecords += processed;
+        this.importedTodos += todos;
+        this.importedComments += comments;
+        this.failedRecords += failed;
+        if (lastError != null) {
+            this.lastError = truncate(lastError);
+        }
+    }
+
+    public void complete() {
+        this.status = ImportStatus.COMPLETED;
+    }
+
+    public void fail(String message) {
+        this.status = ImportStatus.FAILED;
+        this.lastError = truncate(message);
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -4,9 +4,11 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.annotation.SnowflakeId;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,15 +16,27 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_weather", columnList = "weather"),
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at DESC, id DESC")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @SnowflakeId
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 목록에서 COUNT 없이 보여주기 위한 비정규화 카운터. 엔티티 UPDATE 로 덮어쓰지 않도록 JPQL 로만 증감
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long commentCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long managerCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -39,6 +53,7 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1;
     }
 
     public void update(String title, String contents) {
@@ -0,0 +1,5 @@
+package org.example.expert.domain.todo.enums;
+
+public enum ImportStatus {
+    IN_PROGRESS, COMPLETED, FAILED
+}
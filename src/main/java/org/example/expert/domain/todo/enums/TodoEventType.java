@@ -0,0 +1,5 @@
+package org.example.expert.domain.todo.enums;
+
+public enum TodoEventType {
+    TODO_UPDATED, TODO_DELETED, COMMENT_CREATED, COMMENT_DELETED, MANAGER_ADDED, MANAGER_REMOVED
+}
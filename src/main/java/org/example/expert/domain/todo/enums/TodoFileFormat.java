@@ -0,0 +1,34 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+public enum TodoFileFormat {
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    TodoFileFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static TodoFileFormat of(String format) {
+        return Arrays.stream(TodoFileFormat.values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("지원하지 않는 파일 형식입니다. format=" + format));
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.ArchivedTodo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ArchivedTodoRepository extends JpaRepository<ArchivedTodo, Long> {
+
+    @Query("SELECT a FROM ArchivedTodo a " +
+            "LEFT JOIN FETCH a.user " +
+            "WHERE a.id = :todoId")
+    Optional<ArchivedTodo> findByIdWithUser(@Param("todoId") Long todoId);
+
+    // 원본 행을 엔티티로 읽지 않고 DB 안에서 INSERT ... SELECT 로 복사
+    @Modifying
+    @Query("INSERT INTO ArchivedTodo (id, title, contents, weather, commentCount, managerCount, userId, " +
+            "createdAt, modifiedAt, archivedAt) " +
+            "SELECT t.id, t.title, t.contents, t.weather, t.commentCount, t.managerCount, t.user.id, " +
+            "t.createdAt, t.modifiedAt, :archivedAt " +
+            "FROM Todo t WHERE t.id IN :todoIds")
+    int archiveTodos(@Param("todoIds") Collection<Long> todoIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query("INSERT INTO ArchivedComment (id, contents, userId, todoId, createdAt, modifiedAt) " +
+            "SELECT c.id, c.contents, c.user.id, c.todo.id, c.createdAt, c.modifiedAt " +
+            "FROM Comment c WHERE c.todo.id IN :todoIds")
+    int archiveComments(@Param("todoIds") Collection<Long> todoIds);
+
+    @Modifying
+    @Query("INSERT INTO ArchivedManager (id, userId, todoId) " +
+            "SELECT m.id, m.user.id, m.todo.id " +
+            "FROM Manager m WHERE m.todo.id IN :todoIds")
+    int archiveManagers(@Param("todoIds") Collection<Long> todoIds);
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.expert.domain.todo.entity.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ImportCheckpoint c WHERE c.importId = :importId")
+    Optional<ImportCheckpoint> findByIdForUpdate(@Param("importId") String importId);
+}
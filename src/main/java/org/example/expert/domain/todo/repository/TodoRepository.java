@@ -1,23 +1,161 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.todo.dto.PendingWeatherTodo;
+import org.example.expert.domain.todo.dto.TodoExportRow;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
     @EntityGraph(attributePaths = {"user"})
     Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
 
+    @Query(value = "SELECT new org.example.expert.domain.todo.dto.response.TodoSummaryResponse(" +
+            "t.id, t.title, t.weather, t.commentCount, t.managerCount, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoSummaryResponse> findSummaries(Pageable pageable);
+
+    @Query(value = "SELECT new org.example.expert.domain.todo.dto.response.TodoSummaryResponse(" +
+            "t.id, t.title, SUBSTRING(t.contents, 1, :previewLength), t.weather, t.commentCount, t.managerCount, u.id, u.email, " +
+            "t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoSummaryResponse> findSummariesWithPreview(@Param("previewLength") int previewLength, Pageable pageable);
+
+    @Query("SELECT t FROM Todo t " +
+            "JOIN FETCH t.user " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findFirstPageByKeyset(Pageable pageable);
+
+    // (modified_at, id) 인덱스를 따라 커서 이후의 행만 읽음 (OFFSET, COUNT 없음)
+    // modified_at <= :modifiedAt 조건을 분리해야 인덱스 범위 스캔이 가능
+    @Query("SELECT t FROM Todo t " +
+            "JOIN FETCH t.user " +
+            "WHERE t.modifiedAt <= :modifiedAt " +
+            "AND (t.modifiedAt < :modifiedAt OR t.id < :todoId) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findNextPageByKeyset(@Param("modifiedAt") LocalDateTime modifiedAt,
+                                    @Param("todoId") Long todoId,
+                                    Pageable pageable);
+
     @Query("SELECT t FROM Todo t " +
             "LEFT JOIN FETCH t.user " +
             "WHERE t.id = :todoId")
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findUserIdById(@Param("todoId") Long todoId);
+
+    @Query("SELECT t.id FROM Todo t " +
+            "WHERE t.createdAt >= :from AND t.createdAt < :to AND t.id > :lastId " +
+            "ORDER BY t.id")
+    List<Long> findIdsCreatedBetween(@Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     @Param("lastId") Long lastId,
+                                     Pageable pageable);
+
+    // modified_at 인덱스를 오래된 순으로 읽음. 최근에 댓글이 달린 일정은 아직 사용 중이므로 제외
+    @Query("SELECT t.id FROM Todo t " +
+            "WHERE t.modifiedAt < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM Comment c WHERE c.todo = t AND c.modifiedAt >= :cutoff) " +
+            "ORDER BY t.modifiedAt, t.id")
+    List<Long> findIdsToArchive(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // findIdsToArchive 이후 커밋된 수정 / 댓글이 있을 수 있으므로 잠그면서 같은 조건을 다시 확인
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Todo t " +
+            "WHERE t.id IN :todoIds " +
+            "AND t.modifiedAt < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM Comment c WHERE c.todo = t AND c.modifiedAt >= :cutoff)")
+    List<Long> lockIdsToArchive(@Param("todoIds") Collection<Long> todoIds, @Param("cutoff") LocalDateTime cutoff);
+
+    // 댓글, 담당자를 먼저 지운 뒤 호출. 벌크 DELETE 는 영속성 컨텍스트를 거치지 않으므로 끝나면 비움
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id IN :todoIds")
+    int deleteAllByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.PendingWeatherTodo(t.id, t.user.id, t.createdAt) " +
+            "FROM Todo t " +
+            "WHERE t.weather IS NULL AND t.id > :lastId " +
+            "ORDER BY t.id")
+    List<PendingWeatherTodo> findPendingWeather(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT DISTINCT CAST(t.createdAt AS LocalDate) FROM Todo t WHERE t.weather IS NULL")
+    List<LocalDate> findPendingWeatherDates();
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    int adjustCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int adjustManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    // 작성자가 아니면 0 건이므로 권한 확인을 겸함
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId AND t.user.id = :userId")
+    int adjustManagerCountByOwner(@Param("todoId") Long todoId, @Param("userId") Long userId, @Param("delta") long delta);
+
+    // fetch size 를 지정하면 MariaDB 드라이버가 결과를 한 번에 받지 않고 나눠서 스트리밍함
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoExportRow(" +
+            "t.id, t.title, t.contents, t.weather, t.commentCount, t.managerCount, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.id")
+    Stream<TodoExportRow> streamAllForExport();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoSearchDocument(t.id, t.title, t.contents, t.modifiedAt) " +
+            "FROM Todo t")
+    Stream<TodoSearchDocument> streamAllForSearch();
+
+    // 순서는 호출하는 쪽에서 검색 점수대로 맞춤
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoSummaryResponse(" +
+            "t.id, t.title, SUBSTRING(t.contents, 1, :previewLength), t.weather, t.commentCount, t.managerCount, u.id, u.email, " +
+            "t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "WHERE t.id IN :todoIds")
+    List<TodoSummaryResponse> findSummariesByIdIn(@Param("todoIds") Collection<Long> todoIds,
+                                                  @Param("previewLength") int previewLength);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id) " +
+            "WHERE t.id IN :todoIds")
+    int recountCounters(@Param("todoIds") List<Long> todoIds);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET t.weather = :weather WHERE t.id IN :todoIds AND t.weather IS NULL")
+    int updatePendingWeather(@Param("todoIds") List<Long> todoIds, @Param("weather") String weather);
 }
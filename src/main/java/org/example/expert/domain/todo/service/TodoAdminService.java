@@ -0,0 +1,74 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBulkDeleteRequest;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자용 일정 일괄 삭제.
+ * batchSize 건씩 나눠 각각 별도 트랜잭션으로 삭제해 범위가 넓어도 잠금과 undo 로그가 한 번에 커지지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoAdminService {
+
+    private final TodoRepository todoRepository;
+    private final TodoDeleter todoDeleter;
+
+    @Value("${todo.delete.batch-size:1000}")
+    private int batchSize;
+
+    public TodoDeleteResponse deleteTodos(TodoBulkDeleteRequest request) {
+        boolean byIds = request.getTodoIds() != null && !request.getTodoIds().isEmpty();
+        boolean byRange = request.getFrom() != null || request.getTo() != null;
+        if (byIds == byRange) {
+            throw new InvalidRequestException("todoIds 또는 from/to 중 하나만 지정해야 합니다.");
+        }
+
+        TodoDeleteResponse result = byIds
+                ? deleteByIds(request.getTodoIds())
+                : deleteByCreatedAt(request.getFrom(), request.getTo());
+
+        log.info("일정 일괄 삭제 완료: todos={}, managers={}, comments={}",
+                result.deletedTodos(), result.deletedManagers(), result.deletedComments());
+        return result;
+    }
+
+    private TodoDeleteResponse deleteByIds(List<Long> todoIds) {
+        List<Long> distinctIds = todoIds.stream().distinct().toList();
+        TodoDeleteResponse result = TodoDeleteResponse.empty();
+        for (int from = 0; from < distinctIds.size(); from += batchSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + batchSize, distinctIds.size()));
+            result = result.plus(todoDeleter.deleteAll(chunk));
+        }
+        return result;
+    }
+
+    private TodoDeleteResponse deleteByCreatedAt(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new InvalidRequestException("from 은 to 보다 이전이어야 합니다.");
+        }
+
+        TodoDeleteResponse result = TodoDeleteResponse.empty();
+        long lastId = 0L;
+        while (true) {
+            List<Long> todoIds = todoRepository.findIdsCreatedBetween(from, to, lastId, PageRequest.of(0, batchSize));
+            if (todoIds.isEmpty()) {
+                break;
+            }
+            result = result.plus(todoDeleter.deleteAll(todoIds));
+            lastId = todoIds.get(todoIds.size() - 1);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마지막 수정 후 age 가 지났고 그 사이 댓글도 달리지 않은 일정을 보관 테이블로 옮긴다.
+ * 옮긴 행은 원본에서 삭제되므로 커서 없이 가장 오래된 batchSize 건씩 반복해서 가져오고, 청크마다 별도 트랜잭션으로 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoArchiveJob {
+
+    private final TodoRepository todoRepository;
+    private final TodoArchiver todoArchiver;
+
+    @Value("${todo.archive.age:180d}")
+    private Duration age;
+
+    @Value("${todo.archive.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${todo.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        archive();
+    }
+
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(age);
+        int archived = 0;
+
+        while (true) {
+            List<Long> todoIds = todoRepository.findIdsToArchive(cutoff, PageRequest.of(0, batchSize));
+            if (todoIds.isEmpty()) {
+                break;
+            }
+
+            int moved = todoArchiver.archive(todoIds, cutoff);
+            archived += moved;
+            if (moved == 0) {
+                // 조회 후 모두 삭제되었거나 댓글이 달린 경우. 남은 일정은 다음 실행에서 이어감
+                break;
+            }
+        }
+
+        log.info("일정 보관 완료: cutoff={}, count={}", cutoff, archived);
+        return archived;
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.repository.ArchivedTodoRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일정을 댓글, 담당자와 함께 보관 테이블로 옮긴다.
+ * 먼저 보관 조건(cutoff 이전 수정, 이후 댓글 없음)을 다시 확인하며 일정 행을 잠가
+ * 옮기는 동안 댓글 / 담당자가 추가되지 않게 한 뒤(추가 시 카운터 UPDATE 가 대기)
+ * INSERT ... SELECT 로 복사하고 TodoDeleter 로 원본을 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoArchiver {
+
+    private final TodoRepository todoRepository;
+    private final ArchivedTodoRepository archivedTodoRepository;
+    private final TodoDeleter todoDeleter;
+
+    @Transactional
+    public int archive(List<Long> todoIds, LocalDateTime cutoff) {
+        List<Long> lockedIds = todoRepository.lockIdsToArchive(todoIds, cutoff);
+        if (lockedIds.isEmpty()) {
+            return 0;
+        }
+
+        archivedTodoRepository.archiveTodos(lockedIds, LocalDateTime.now());
+        archivedTodoRepository.archiveComments(lockedIds);
+        archivedTodoRepository.archiveManagers(lockedIds);
+        return todoDeleter.deleteAll(lockedIds).deletedTodos();
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.TodoIndexEvent;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 일정 대량 저장. 하나의 트랜잭션 안에서 chunkSize 단위로 flush 해 todos / managers INSERT 를 JDBC 배치로 보내고,
+ * flush 할 때마다 영속성 컨텍스트를 비워 저장 건수가 많아도 메모리가 늘어나지 않도록 한다.
+ * 단건 저장(POST /todos)도 이 빈을 거쳐 색인 이벤트가 트랜잭션 커밋 후에 반영되도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoBatchWriter {
+
+    private final TodoRepository todoRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int chunkSize;
+
+    @Transactional
+    public void saveAll(List<Todo> todos) {
+        for (int from = 0; from < todos.size(); from += chunkSize) {
+            todoRepository.saveAll(todos.subList(from, Math.min(from + chunkSize, todos.size())));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        eventPublisher.publishEvent(TodoIndexEvent.upserted(todos));
+    }
+}
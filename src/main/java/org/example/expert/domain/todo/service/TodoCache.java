@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 일정 단건 조회 응답(TodoResponse) 캐시.
+ * 같은 id 에 대한 동시 miss 는 하나의 로딩을 기다리고, 크기와 TTL 로 제한된다.
+ * 무효화는 트랜잭션 안에서 호출되면 커밋 후에 수행해 커밋 전 값이 다시 캐시되지 않도록 한다.
+ * 지표는 cache.gets / cache.evictions 등의 이름으로 cache=todo.detail 태그를 달아 노출한다.
+ */
+@Component
+public class TodoCache {
+
+    private final Cache<Long, TodoResponse> cache;
+
+    public TodoCache(
+            @Value("${todo.cache.max-size:10000}") long maximumSize,
+            @Value("${todo.cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "todo.detail");
+    }
+
+    public TodoResponse get(long todoId, Function<Long, TodoResponse> loader) {
+        return cache.get(todoId, loader);
+    }
+
+    public void evict(long todoId) {
+        evictAll(List.of(todoId));
+    }
+
+    public void evictAll(Collection<Long> todoIds) {
+        afterCommit(() -> cache.invalidateAll(todoIds));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private void afterCommit(Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 일정의 댓글 수 / 담당자 수 카운터를 실제 행 수로 다시 계산한다.
+ * id 순으로 batchSize 건씩 나눠 각각 별도 트랜잭션으로 갱신해 테이블 전체를 오래 잠그지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCounterRepairJob {
+
+    private final TodoRepository todoRepository;
+    private final TodoCache todoCache;
+
+    @Value("${todo.counter.repair-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${todo.counter.repair-cron:0 0 4 * * *}")
+    public void scheduledRepair() {
+        repair();
+    }
+
+    public int repair() {
+        int processed = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<Long> todoIds = todoRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (todoIds.isEmpty()) {
+                break;
+            }
+
+            todoRepository.recountCounters(todoIds);
+            todoCache.evictAll(todoIds);
+
+            processed += todoIds.size();
+            lastId = todoIds.get(todoIds.size() - 1);
+        }
+
+        log.info("일정 카운터 재계산 완료: count={}", processed);
+        return processed;
+    }
+}
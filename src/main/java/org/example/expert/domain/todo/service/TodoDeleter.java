@@ -0,0 +1,44 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoIndexEvent;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 일정을 댓글, 담당자와 함께 삭제한다.
+ * 엔티티를 remove 하면 cascade 때문에 댓글을 모두 읽어 한 건씩 DELETE 하므로,
+ * 외래 키 순서(댓글 -> 담당자 -> 일정)대로 IN 조건 DELETE 세 번으로 처리하고 영속성 컨텍스트를 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoDeleter {
+
+    private final TodoRepository todoRepository;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
+    private final TodoCache todoCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public TodoDeleteResponse deleteAll(List<Long> todoIds) {
+        if (todoIds.isEmpty()) {
+            return TodoDeleteResponse.empty();
+        }
+
+        int deletedComments = commentRepository.deleteAllByTodoIdIn(todoIds);
+        int deletedManagers = managerRepository.deleteAllByTodoIdIn(todoIds);
+        int deletedTodos = todoRepository.deleteAllByIdIn(todoIds);
+        todoCache.evictAll(todoIds);
+        eventPublisher.publishEvent(TodoIndexEvent.removed(todoIds));
+
+        return new TodoDeleteResponse(deletedTodos, deletedManagers, deletedComments);
+    }
+}
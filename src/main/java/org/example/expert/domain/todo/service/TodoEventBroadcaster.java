@@ -0,0 +1,237 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일정 / 유저 단위 SSE 구독을 관리하고 커밋된 TodoEvent 를 전달한다.
+ * 연결은 비동기 서블릿(SseEmitter)으로 유지되어 대기 중인 구독자는 스레드를 점유하지 않는다.
+ * 구독자마다 bufferSize 크기의 큐를 두고 소수의 전송 스레드가 비우며, 큐가 가득 찬 느린 구독자는 연결을 끊는다.
+ * 지표는 todo.events.subscribers(현재 구독 수), todo.events.evicted(느린 구독자 종료 수)로 노출한다.
+ */
+@Slf4j
+@Component
+public class TodoEventBroadcaster {
+
+    private final TodoRepository todoRepository;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final ExecutorService sender;
+    private final Counter evictedCounter;
+
+    private final Map<Long, Set<Subscriber>> todoSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> userSubscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public TodoEventBroadcaster(
+            TodoRepository todoRepository,
+            @Value("${todo.events.buffer-size:64}") int bufferSize,
+            @Value("${todo.events.timeout:30m}") Duration timeout,
+            @Value("${todo.events.sender-threads:4}") int senderThreads,
+            MeterRegistry meterRegistry
+    ) {
+        this.todoRepository = todoRepository;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "todo-events-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.evictedCounter = Counter.builder("todo.events.evicted")
+                .description("버퍼가 가득 차 연결을 끊은 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("todo.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("SSE 구독자 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void close() {
+        sender.shutdownNow();
+    }
+
+    public SseEmitter subscribeTodo(long todoId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        return subscribe(todoSubscribers, todoId);
+    }
+
+    public SseEmitter subscribeUser(long userId) {
+        return subscribe(userSubscribers, userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoEvent(TodoEvent event) {
+        Set<Subscriber> byTodo = todoSubscribers.get(event.todoId());
+        if (byTodo != null) {
+            byTodo.forEach(subscriber -> subscriber.offer(toSse(event)));
+        }
+
+        if (userSubscribers.isEmpty()) {
+            return;
+        }
+        // 작성자를 모르는 이벤트는 유저 구독자가 있을 때만 조회
+        TodoEvent resolved = event.ownerId() != null
+                ? event
+                : event.withOwnerId(todoRepository.findUserIdById(event.todoId()).orElse(null));
+        publishToUser(resolved.ownerId(), resolved);
+        if (resolved.userId() != null && !resolved.userId().equals(resolved.ownerId())) {
+            publishToUser(resolved.userId(), resolved);
+        }
+    }
+
+    // 프록시 등이 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트를 보내고, 이미 끊긴 연결은 전송 실패로 정리
+    @Scheduled(fixedDelayString = "${todo.events.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        todoSubscribers.values().forEach(subscribers -> subscribers.forEach(s -> s.offer(SseEmitter.event().comment("ping"))));
+        userSubscribers.values().forEach(subscribers -> subscribers.forEach(s -> s.offer(SseEmitter.event().comment("ping"))));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void publishToUser(Long userId, TodoEvent event) {
+        if (userId == null) {
+            return;
+        }
+        Set<Subscriber> byUser = userSubscribers.get(userId);
+        if (byUser != null) {
+            byUser.forEach(subscriber -> subscriber.offer(toSse(event)));
+        }
+    }
+
+    private SseEmitter subscribe(Map<Long, Set<Subscriber>> registry, long key) {
+        SseEmitter emitter = createEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, registry, key);
+
+        registry.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscriberCount.incrementAndGet();
+        emitter.onCompletion(subscriber::unregister);
+        emitter.onTimeout(subscriber::unregister);
+        emitter.onError(e -> subscriber.unregister());
+
+        // 응답 헤더를 바로 내려보내 클라이언트가 연결 성공을 알 수 있게 함
+        subscriber.offer(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(TodoEvent event) {
+        return SseEmitter.event()
+                .name(event.type().name())
+                .data(event);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Map<Long, Set<Subscriber>> registry;
+        private final long key;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Map<Long, Set<Subscriber>> registry, long key) {
+            this.emitter = emitter;
+            this.registry = registry;
+            this.key = key;
+        }
+
+        // 발행 스레드는 큐에 넣기만 하고 전송을 기다리지 않음
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                evictedCounter.increment();
+                log.warn("느린 SSE 구독자 연결 종료: key={}, buffer={}", key, bufferSize);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // drain 종료와 offer 사이에 들어온 이벤트 처리
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            unregister();
+            // 전송 중인 emitter 는 잠겨 있을 수 있으므로 발행 스레드가 기다리지 않도록 전송 스레드에서 종료
+            try {
+                sender.execute(emitter::complete);
+            } catch (RejectedExecutionException e) {
+                emitter.complete();
+            }
+        }
+
+        private void unregister() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            queue.clear();
+            subscriberCount.decrementAndGet();
+            registry.computeIfPresent(key, (k, subscribers) -> {
+                subscribers.remove(this);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.TodoExportRow;
+import org.example.expert.domain.todo.enums.TodoFileFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 일정을 NDJSON / CSV 로 내보낸다.
+ * 엔티티 대신 프로젝션을 fetch size 단위로 스트리밍해 영속성 컨텍스트에 쌓이는 것이 없고,
+ * 한 행씩 버퍼에 써서 테이블 크기와 관계없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+
+    private static final String CSV_HEADER =
+            "id,title,contents,weather,commentCount,managerCount,authorId,authorEmail,createdAt,modifiedAt";
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+
+    // 스트림은 트랜잭션 안에서만 읽을 수 있음
+    @Transactional(readOnly = true)
+    public long export(TodoFileFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long count = 0;
+
+        // 한 생성기로 여러 루트 값을 쓰면 값 사이에 기본 구분자(공백)가 들어가므로 구분자를 없애고 줄바꿈은 직접 씀
+        try (Stream<TodoExportRow> rows = todoRepository.streamAllForExport();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)
+                     .setRootValueSeparator(null)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)) {
+            if (format == TodoFileFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            Iterator<TodoExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TodoExportRow row = iterator.next();
+                if (format == TodoFileFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    objectMapper.writeValue(generator, row);
+                    generator.flush();
+                    writer.write('\n');
+                }
+                count++;
+            }
+        }
+
+        writer.flush();
+        log.info("일정 내보내기 완료: format={}, count={}", format, count);
+        return count;
+    }
+
+    private void writeCsv(Writer writer, TodoExportRow row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writer.write(escapeCsv(row.title()));
+        writer.write(',');
+        writer.write(escapeCsv(row.contents()));
+        writer.write(',');
+        writer.write(escapeCsv(row.weather()));
+        writer.write(',');
+        writer.write(String.valueOf(row.commentCount()));
+        writer.write(',');
+        writer.write(String.valueOf(row.managerCount()));
+        writer.write(',');
+        writer.write(String.valueOf(row.authorId()));
+        writer.write(',');
+        writer.write(escapeCsv(row.authorEmail()));
+        writer.write(',');
+        writer.write(row.createdAt() != null ? row.createdAt().toString() : "");
+        writer.write(',');
+        writer.write(row.modifiedAt() != null ? row.modifiedAt().toString() : "");
+        writer.write('\n');
+    }
+
+    // RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀
+    static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
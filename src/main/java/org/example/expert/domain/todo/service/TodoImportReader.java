@@ -0,0 +1,168 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoImportRecord;
+import org.example.expert.domain.todo.enums.TodoFileFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가져오기 파일을 한 레코드씩 읽는다. 파일 전체를 메모리에 올리지 않는다.
+ * 형식이 잘못된 레코드는 예외 대신 오류 메시지를 담은 Entry 로 반환해 해당 레코드만 실패 처리되도록 한다.
+ * CSV 는 헤더의 컬럼 이름(title, contents, weather, authorEmail, createdAt, modifiedAt)으로 값을 찾으므로 내보내기 파일을 그대로 사용할 수 있다.
+ */
+class TodoImportReader {
+
+    record Entry(TodoImportRecord record, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final TodoFileFormat format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> columns;
+
+    private TodoImportReader(InputStream inputStream, TodoFileFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    static TodoImportReader open(InputStream inputStream, TodoFileFormat format, ObjectMapper objectMapper) throws IOException {
+        TodoImportReader importReader = new TodoImportReader(inputStream, format, objectMapper);
+        if (format == TodoFileFormat.CSV) {
+            importReader.readHeader();
+        }
+        return importReader;
+    }
+
+    // 더 이상 레코드가 없으면 null
+    Entry next() throws IOException {
+        return format == TodoFileFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    private Entry nextNdjson() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        try {
+            TodoImportRecord record = objectMapper.readValue(line, TodoImportRecord.class);
+            return record != null ? new Entry(record, null) : new Entry(null, "빈 레코드입니다.");
+        } catch (JsonProcessingException e) {
+            return new Entry(null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readCsvRow();
+        if (header == null) {
+            throw new InvalidRequestException("CSV 헤더가 없습니다.");
+        }
+
+        columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        for (String required : List.of("title", "contents", "authorEmail")) {
+            if (!columns.containsKey(required)) {
+                throw new InvalidRequestException("CSV 헤더에 " + required + " 컬럼이 없습니다.");
+            }
+        }
+    }
+
+    private Entry nextCsv() throws IOException {
+        List<String> row;
+        do {
+            row = readCsvRow();
+            if (row == null) {
+                return null;
+            }
+        } while (row.size() == 1 && row.get(0).isEmpty());
+
+        if (row.size() < columns.size()) {
+            return new Entry(null, "CSV 컬럼 수가 헤더와 다릅니다.");
+        }
+        LocalDateTime createdAt;
+        LocalDateTime modifiedAt;
+        try {
+            createdAt = timestampColumn(row, "createdAt");
+            modifiedAt = timestampColumn(row, "modifiedAt");
+        } catch (DateTimeParseException e) {
+            return new Entry(null, "시각 형식이 올바르지 않습니다: " + e.getParsedString());
+        }
+        return new Entry(new TodoImportRecord(
+                column(row, "title"),
+                column(row, "contents"),
+                column(row, "weather"),
+                column(row, "authorEmail"),
+                createdAt,
+                modifiedAt,
+                List.of()
+        ), null);
+    }
+
+    private LocalDateTime timestampColumn(List<String> row, String name) {
+        String value = column(row, name);
+        return value == null || value.isBlank() ? null : LocalDateTime.parse(value.trim());
+    }
+
+    private String column(List<String> row, String name) {
+        Integer index = columns.get(name);
+        return index != null ? row.get(index) : null;
+    }
+
+    // RFC 4180: 따옴표로 감싼 필드에는 쉼표, 줄바꿈, 두 번 쓴 따옴표가 들어갈 수 있음
+    private List<String> readCsvRow() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new InvalidRequestException("CSV 따옴표가 닫히지 않았습니다.");
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.enums.TodoFileFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 / 댓글 대량 가져오기.
+ * 업로드 본문을 한 레코드씩 읽어 chunkSize 건마다 별도 트랜잭션으로 저장하고 체크포인트를 남긴다.
+ * 중간에 실패하면 같은 importId 로 같은 파일을 다시 올리면 이미 처리된 레코드는 건너뛰고 이어서 진행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoImportService {
+
+    private final TodoImportWriter todoImportWriter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${todo.import.chunk-size:1000}")
+    private int chunkSize;
+
+    public TodoImportResponse importTodos(String importId, TodoFileFormat format, InputStream inputStream) throws IOException {
+        long processed = todoImportWriter.start(importId);
+        long skip = processed;
+
+        try {
+            TodoImportReader reader = TodoImportReader.open(inputStream, format, objectMapper);
+            List<TodoImportReader.Entry> chunk = new ArrayList<>(chunkSize);
+            long position = 0;
+
+            TodoImportReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                if (position++ < skip) {
+                    continue;
+                }
+                chunk.add(entry);
+                if (chunk.size() == chunkSize) {
+                    processed = todoImportWriter.writeChunk(importId, processed, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processed = todoImportWriter.writeChunk(importId, processed, chunk);
+            }
+        } catch (InvalidRequestException e) {
+            // 요청 자체가 잘못된 경우(동시 진행, 형식 오류)는 체크포인트를 그대로 둠
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            log.warn("일정 가져오기 실패: importId={}, processed={}, cause={}", importId, processed, e.getMessage());
+            todoImportWriter.fail(importId, e.getMessage());
+            throw e;
+        }
+
+        TodoImportResponse response = todoImportWriter.complete(importId);
+        log.info("일정 가져오기 완료: importId={}, todos={}, comments={}, failed={}",
+                importId, response.importedTodos(), response.importedComments(), response.failedRecords());
+        return response;
+    }
+
+    public TodoImportResponse getProgress(String importId) {
+        return todoImportWriter.getProgress(importId);
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoIndexEvent;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.dto.request.TodoImportRecord;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.ImportCheckpoint;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.ImportStatus;
+import org.example.expert.domain.todo.repository.ImportCheckpointRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * 가져오기 청크 저장. 청크 하나가 하나의 트랜잭션이며, 일정 / 담당자 / 댓글 INSERT 와 체크포인트 갱신이 함께 커밋된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoImportWriter {
+
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final UserRepository userRepository;
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 이미 처리된 레코드 수를 반환. 처음이면 체크포인트를 만든다
+    @Transactional
+    public long start(String importId) {
+        ImportCheckpoint checkpoint = importCheckpointRepository.findByIdForUpdate(importId)
+                .orElseGet(() -> importCheckpointRepository.save(new ImportCheckpoint(importId)));
+
+        if (checkpoint.getStatus() == ImportStatus.COMPLETED) {
+            throw new InvalidRequestException("이미 완료된 가져오기입니다. importId=" + importId);
+        }
+        checkpoint.resume();
+        return checkpoint.getProcessedRecords();
+    }
+
+    /**
+     * 레코드 청크를 저장하고 처리된 레코드 수를 반환한다.
+     * 체크포인트 행을 잠그고 예상한 위치인지 확인해, 같은 importId 로 동시에 들어온 요청이 중복 저장하지 않도록 한다.
+     */
+    @Transactional
+    public long writeChunk(String importId, long expectedProcessed, List<TodoImportReader.Entry> entries) {
+        ImportCheckpoint checkpoint = importCheckpointRepository.findByIdForUpdate(importId)
+                .orElseThrow(() -> new InvalidRequestException("가져오기를 찾을 수 없습니다. importId=" + importId));
+        if (checkpoint.getProcessedRecords() != expectedProcessed) {
+            throw new InvalidRequestException("같은 가져오기가 다른 요청에서 진행 중입니다. importId=" + importId);
+        }
+
+        Map<String, User> usersByEmail = findUsers(entries);
+
+        List<Todo> todos = new ArrayList<>(entries.size());
+        List<TodoImportRecord> records = new ArrayList<>(entries.size());
+        List<Comment> comments = new ArrayList<>();
+        List<Todo> todosWithComments = new ArrayList<>();
+        int failed = 0;
+        String lastError = null;
+
+        for (TodoImportReader.Entry entry : entries) {
+            String error = entry.error() != null ? entry.error() : validate(entry.record(), usersByEmail);
+            if (error != null) {
+                failed++;
+                lastError = error;
+                continue;
+            }
+
+            TodoImportRecord record = entry.record();
+            Todo todo = new Todo(record.title(), record.contents(), record.weather(), usersByEmail.get(record.authorEmail()));
+            todos.add(todo);
+            records.add(record);
+            if (record.comments() != null && !record.comments().isEmpty()) {
+                todosWithComments.add(todo);
+                for (TodoImportRecord.CommentRecord comment : record.comments()) {
+                    comments.add(new Comment(comment.contents(), usersByEmail.get(comment.authorEmail()), todo));
+                }
+            }
+        }
+
+        todoRepository.saveAll(todos);
+        commentRepository.saveAll(comments);
+        checkpoint.advance(entries.size(), todos.size(), comments.size(), failed, lastError);
+        entityManager.flush();
+
+        if (!todosWithComments.isEmpty()) {
+            todoRepository.recountCounters(todosWithComments.stream().map(Todo::getId).toList());
+        }
+        List<TodoSearchDocument> documents = restoreTimestamps(todos, records);
+        // 청크마다 영속성 컨텍스트를 비워 가져오는 건수와 관계없이 메모리 사용량을 일정하게 유지
+        entityManager.clear();
+        eventPublisher.publishEvent(new TodoIndexEvent(documents, List.of()));
+
+        return expectedProcessed + entries.size();
+    }
+
+    /**
+     * 감사(auditing) 필드는 저장할 때 현재 시각으로 채워지므로, 원본 시각이 있는 레코드는 flush 후 JDBC 배치 UPDATE 로 되돌린다.
+     * 한쪽 시각만 있으면 다른 쪽도 같은 시각으로 맞춘다. 색인에도 되돌린 수정 시각을 담는다.
+     */
+    private List<TodoSearchDocument> restoreTimestamps(List<Todo> todos, List<TodoImportRecord> records) {
+        List<TodoSearchDocument> documents = new ArrayList<>(todos.size());
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (int i = 0; i < todos.size(); i++) {
+            Todo todo = todos.get(i);
+            TodoImportRecord record = records.get(i);
+            if (record.createdAt() == null && record.modifiedAt() == null) {
+                documents.add(TodoSearchDocument.of(todo));
+                continue;
+            }
+
+            LocalDateTime createdAt = record.createdAt() != null ? record.createdAt() : record.modifiedAt();
+            LocalDateTime modifiedAt = record.modifiedAt() != null ? record.modifiedAt() : record.createdAt();
+            batchArgs.add(new Object[]{Timestamp.valueOf(createdAt), Timestamp.valueOf(modifiedAt), todo.getId()});
+            documents.add(new TodoSearchDocument(todo.getId(), todo.getTitle(), todo.getContents(), modifiedAt));
+        }
+
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE todos SET created_at = ?, modified_at = ? WHERE id = ?", batchArgs);
+        }
+        return documents;
+    }
+
+    @Transactional
+    public TodoImportResponse complete(String importId) {
+        ImportCheckpoint checkpoint = getCheckpoint(importId);
+        checkpoint.complete();
+        return TodoImportResponse.of(checkpoint);
+    }
+
+    @Transactional
+    public void fail(String importId, String message) {
+        importCheckpointRepository.findById(importId).ifPresent(checkpoint -> checkpoint.fail(message));
+    }
+
+    @Transactional(readOnly = true)
+    public TodoImportResponse getProgress(String importId) {
+        return TodoImportResponse.of(getCheckpoint(importId));
+    }
+
+    private ImportCheckpoint getCheckpoint(String importId) {
+        return importCheckpointRepository.findById(importId)
+                .orElseThrow(() -> new InvalidRequestException("가져오기를 찾을 수 없습니다. importId=" + importId));
+    }
+
+    // 청크에 나오는 작성자 이메일을 모아 한 번의 IN 쿼리로 조회
+    private Map<String, User> findUsers(List<TodoImportReader.Entry> entries) {
+        Set<String> emails = new HashSet<>();
+        for (TodoImportReader.Entry entry : entries) {
+            TodoImportRecord record = entry.record();
+            if (record == null) {
+                continue;
+            }
+            if (record.authorEmail() != null) {
+                emails.add(record.authorEmail());
+            }
+            if (record.comments() != null) {
+                for (TodoImportRecord.CommentRecord comment : record.comments()) {
+                    if (comment != null && comment.authorEmail() != null) {
+                        emails.add(comment.authorEmail());
+                    }
+                }
+            }
+        }
+
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllByEmailIn(emails).stream()
+                .collect(toMap(User::getEmail, Function.identity()));
+    }
+
+    private String validate(TodoImportRecord record, Map<String, User> usersByEmail) {
+        if (!StringUtils.hasText(record.title()) || !StringUtils.hasText(record.contents())) {
+            return "title 과 contents 는 필수입니다.";
+        }
+        if (!usersByEmail.containsKey(record.authorEmail())) {
+            return "작성자를 찾을 수 없습니다. email=" + record.authorEmail();
+        }
+        if (record.comments() != null) {
+            for (TodoImportRecord.CommentRecord comment : record.comments()) {
+                if (comment == null || !StringUtils.hasText(comment.contents())) {
+                    return "댓글 contents 는 필수입니다.";
+                }
+                if (!usersByEmail.containsKey(comment.authorEmail())) {
+                    return "댓글 작성자를 찾을 수 없습니다. email=" + comment.authorEmail();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,410 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.TodoIndexEvent;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 일정 제목 / 내용에 대한 메모리 역색인.
+ * 단어마다 문서 번호(int)와 빈도(int)를 기본형 배열에 이어 붙여 박싱 없이 보관한다.
+ * 문서 번호는 추가 순서대로 증가하므로 게시 목록은 항상 정렬되어 있고, 여러 단어의 교집합은 가장 짧은 목록을 기준으로 이진 탐색해 구한다.
+ * 수정은 기존 문서를 삭제 표시한 뒤 새 번호로 추가하며, 삭제 표시된 문서가 살아있는 문서보다 많아지면 압축한다.
+ * 조회는 동시에, 변경은 한 번에 하나씩 수행된다.
+ */
+public class TodoSearchIndex {
+
+    // 제목에 나온 단어는 내용보다 가중치를 높게 줌
+    private static final int TITLE_WEIGHT = 2;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final double[] TERM_WEIGHTS = new double[64];
+
+    static {
+        for (int frequency = 1; frequency < TERM_WEIGHTS.length; frequency++) {
+            TERM_WEIGHTS[frequency] = 1 + Math.log(frequency);
+        }
+    }
+
+    private final double decayPerMillis;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private LongIntMap docByTodoId = new LongIntMap(INITIAL_CAPACITY);
+    private long[] todoIds = new long[INITIAL_CAPACITY];
+    private long[] modifiedAt = new long[INITIAL_CAPACITY];
+    private final BitSet removed = new BitSet();
+    private int docCount;
+    private int liveCount;
+
+    public TodoSearchIndex(Duration recencyHalfLife) {
+        this.decayPerMillis = Math.log(2) / Math.max(1, recencyHalfLife.toMillis());
+    }
+
+    public void upsert(TodoSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            doUpsert(document);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long todoId) {
+        lock.writeLock().lock();
+        try {
+            doRemove(todoId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void apply(TodoIndexEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.removedTodoIds().forEach(this::doRemove);
+            event.upserts().forEach(this::doUpsert);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 검색어를 포함하는 일정을 점수 순으로 최대 limit 건 반환한다.
+     * 점수 = sum((1 + ln tf) * ln(1 + N / df)) * (1 + 0.5 ^ (경과 시간 / 반감기))
+     * 즉 최근에 수정된 일정일수록 최대 2 배까지 가중된다.
+     */
+    public List<Hit> search(String query, int limit, long nowMillis) {
+        List<String> terms = tokenizeDistinct(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postings.get(terms.get(i));
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = Math.log(1 + (double) liveCount / lists[i].size);
+            }
+
+            PriorityQueue<ScoredDoc> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(ScoredDoc::score));
+            int[] cursors = new int[lists.length];
+            Postings shortest = lists[0];
+
+            candidates:
+            for (int i = 0; i < shortest.size; i++) {
+                int doc = shortest.docs[i];
+                if (removed.get(doc)) {
+                    continue;
+                }
+
+                double textScore = termWeight(shortest.freqs[i]) * idf[0];
+                for (int j = 1; j < lists.length; j++) {
+                    Postings list = lists[j];
+                    int position = list.seek(cursors[j], doc);
+                    cursors[j] = position;
+                    if (position == list.size) {
+                        break candidates;
+                    }
+                    if (list.docs[position] != doc) {
+                        continue candidates;
+                    }
+                    textScore += termWeight(list.freqs[position]) * idf[j];
+                }
+
+                // 최근성 가중치는 최대 2 배이므로 그래도 상위 limit 건에 못 드는 후보는 계산을 건너뜀
+                if (top.size() == limit && textScore * 2 <= top.peek().score()) {
+                    continue;
+                }
+                double score = textScore * (1 + recency(nowMillis - modifiedAt[doc]));
+                if (top.size() < limit) {
+                    top.add(new ScoredDoc(doc, score));
+                } else if (score > top.peek().score()) {
+                    top.poll();
+                    top.add(new ScoredDoc(doc, score));
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                ScoredDoc scored = top.poll();
+                hits.add(new Hit(todoIds[scored.doc()], scored.score()));
+            }
+            // 최소 힙에서 꺼냈으므로 뒤집어서 점수 내림차순
+            Collections.reverse(hits);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 영문 / 숫자 / 한글 등 문자와 숫자가 이어진 구간을 소문자로 바꿔 단어로 사용한다. 형태소 분석은 하지 않는다.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                token.appendCodePoint(Character.toLowerCase(codePoint));
+            } else if (!token.isEmpty()) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (!token.isEmpty()) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private static List<String> tokenizeDistinct(String text) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(text));
+        return new ArrayList<>(terms);
+    }
+
+    private static double termWeight(int frequency) {
+        return frequency < TERM_WEIGHTS.length ? TERM_WEIGHTS[frequency] : 1 + Math.log(frequency);
+    }
+
+    private double recency(long ageMillis) {
+        return Math.exp(-Math.max(0, ageMillis) * decayPerMillis);
+    }
+
+    private void doUpsert(TodoSearchDocument document) {
+        doRemove(document.id());
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        for (String term : tokenize(document.title())) {
+            frequencies.computeIfAbsent(term, key -> new int[1])[0] += TITLE_WEIGHT;
+        }
+        for (String term : tokenize(document.contents())) {
+            frequencies.computeIfAbsent(term, key -> new int[1])[0]++;
+        }
+
+        int doc = docCount++;
+        if (doc == todoIds.length) {
+            todoIds = Arrays.copyOf(todoIds, doc * 2);
+            modifiedAt = Arrays.copyOf(modifiedAt, doc * 2);
+        }
+        todoIds[doc] = document.id();
+        // 저장 직후 감사 필드가 비어 있는 경우는 지금 수정된 것으로 봄
+        modifiedAt[doc] = document.modifiedAt() != null
+                ? document.modifiedAt().atZone(ZONE).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+        docByTodoId.put(document.id(), doc);
+        liveCount++;
+
+        frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new Postings()).add(doc, frequency[0]));
+    }
+
+    // 게시 목록은 그대로 두고 삭제 표시만 함. 압축할 때 한꺼번에 정리
+    private void doRemove(long todoId) {
+        int doc = docByTodoId.get(todoId);
+        if (doc < 0) {
+            return;
+        }
+        removed.set(doc);
+        docByTodoId.put(todoId, -1);
+        liveCount--;
+    }
+
+    private void compactIfNeeded() {
+        int removedCount = docCount - liveCount;
+        if (removedCount < INITIAL_CAPACITY || removedCount <= liveCount) {
+            return;
+        }
+
+        // 살아있는 문서에 순서를 유지한 채 새 번호를 매김
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            remap[doc] = removed.get(doc) ? -1 : next++;
+        }
+
+        Iterator<Postings> iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            Postings list = iterator.next();
+            list.remap(remap);
+            if (list.size == 0) {
+                iterator.remove();
+            }
+        }
+
+        long[] compactedTodoIds = new long[Math.max(INITIAL_CAPACITY, liveCount * 2)];
+        long[] compactedModifiedAt = new long[compactedTodoIds.length];
+        LongIntMap compactedDocs = new LongIntMap(compactedTodoIds.length);
+        for (int doc = 0; doc < docCount; doc++) {
+            if (remap[doc] >= 0) {
+                compactedTodoIds[remap[doc]] = todoIds[doc];
+                compactedModifiedAt[remap[doc]] = modifiedAt[doc];
+                compactedDocs.put(todoIds[doc], remap[doc]);
+            }
+        }
+
+        todoIds = compactedTodoIds;
+        modifiedAt = compactedModifiedAt;
+        docByTodoId = compactedDocs;
+        removed.clear();
+        docCount = liveCount;
+    }
+
+    public record Hit(long todoId, double score) {
+    }
+
+    private record ScoredDoc(int doc, double score) {
+    }
+
+    // 단어 하나의 게시 목록. docs 는 오름차순
+    private static final class Postings {
+
+        private int[] docs = new int[2];
+        private int[] freqs = new int[2];
+        private int size;
+
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = frequency;
+            size++;
+        }
+
+        // from 이후에서 doc 이상인 첫 위치
+        int seek(int from, int doc) {
+            int position = Arrays.binarySearch(docs, from, size, doc);
+            return position >= 0 ? position : -(position + 1);
+        }
+
+        void remap(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[next] = doc;
+                    freqs[next] = freqs[i];
+                    next++;
+                }
+            }
+            size = next;
+            if (size < docs.length / 4) {
+                docs = Arrays.copyOf(docs, Math.max(2, size));
+                freqs = Arrays.copyOf(freqs, Math.max(2, size));
+            }
+        }
+    }
+
+    // 일정 id -> 문서 번호. 선형 탐사 해시로 Long 박싱 없이 보관하며, 삭제는 값을 -1 로 덮어씀
+    private static final class LongIntMap {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private long[] keys;
+        private int[] values;
+        private int size;
+
+        LongIntMap(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2) - 1) << 1;
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+        }
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = hash(key) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] = value;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            Arrays.fill(keys, EMPTY);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long mixed = key * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32));
+        }
+    }
+}
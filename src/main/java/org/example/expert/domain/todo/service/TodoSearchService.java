@@ -0,0 +1,126 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.TodoIndexEvent;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 일정 제목 / 내용 검색. LIKE '%검색어%' 는 todos 전체를 읽으므로 메모리 역색인(TodoSearchIndex)으로 id 를 찾고,
+ * 찾은 id 만 IN 조건 한 번으로 조회한다.
+ * 색인은 애플리케이션 시작 후 todos 를 스트리밍해 만들고, 이후에는 커밋된 TodoIndexEvent 로 갱신한다.
+ * 만드는 동안 들어온 이벤트는 모아 두었다가 새 색인에 다시 적용한 뒤 교체하므로 빠지는 변경이 없다.
+ * 지표는 todo.search.documents(색인된 일정 수), todo.search.terms(단어 수)로 노출한다.
+ */
+@Slf4j
+@Service
+public class TodoSearchService {
+
+    // 색인 생성이 끝나기 전 검색 요청에 보내는 Retry-After
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private final TodoRepository todoRepository;
+    private final Duration recencyHalfLife;
+
+    private volatile TodoSearchIndex index;
+    private volatile boolean ready;
+    // 색인을 만드는 중에만 존재. index 교체와 같은 모니터로 보호
+    private List<TodoIndexEvent> pendingEvents;
+
+    public TodoSearchService(
+            TodoRepository todoRepository,
+            @Value("${todo.search.recency-half-life:30d}") Duration recencyHalfLife,
+            MeterRegistry meterRegistry
+    ) {
+        this.todoRepository = todoRepository;
+        this.recencyHalfLife = recencyHalfLife;
+        this.index = new TodoSearchIndex(recencyHalfLife);
+        Gauge.builder("todo.search.documents", this, service -> service.index.size())
+                .description("검색 색인에 들어있는 일정 수")
+                .register(meterRegistry);
+        Gauge.builder("todo.search.terms", this, service -> service.index.termCount())
+                .description("검색 색인의 단어 수")
+                .register(meterRegistry);
+    }
+
+    // 스트림은 트랜잭션 안에서만 읽을 수 있음
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (this) {
+            pendingEvents = new ArrayList<>();
+        }
+
+        long startedAt = System.nanoTime();
+        TodoSearchIndex rebuilt = new TodoSearchIndex(recencyHalfLife);
+        try (Stream<TodoSearchDocument> documents = todoRepository.streamAllForSearch()) {
+            documents.forEach(rebuilt::upsert);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingEvents = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            pendingEvents.forEach(rebuilt::apply);
+            pendingEvents = null;
+            index = rebuilt;
+            ready = true;
+        }
+        log.info("검색 색인 생성 완료: documents={}, terms={}, elapsed={}ms",
+                rebuilt.size(), rebuilt.termCount(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIndexEvent(TodoIndexEvent event) {
+        TodoSearchIndex current;
+        synchronized (this) {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            current = index;
+        }
+        current.apply(event);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TodoSummaryResponse> search(String query, int size, int previewLength) {
+        if (!ready) {
+            throw new ServiceUnavailableException("검색 색인을 준비하는 중입니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+        }
+
+        List<TodoSearchIndex.Hit> hits = index.search(query, size, System.currentTimeMillis());
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> rankById = new HashMap<>();
+        for (int i = 0; i < hits.size(); i++) {
+            rankById.put(hits.get(i).todoId(), i);
+        }
+        // 색인 반영 전에 삭제된 일정은 조회되지 않으므로 빠짐
+        return todoRepository.findSummariesByIdIn(rankById.keySet(), previewLength).stream()
+                .sorted(Comparator.comparingInt(summary -> rankById.get(summary.id())))
+                .toList();
+    }
+}
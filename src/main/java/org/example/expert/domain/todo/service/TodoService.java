@@ -2,35 +2,61 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoEvent;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResult;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoFullResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoEventType;
+import org.example.expert.domain.todo.repository.ArchivedTodoRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class TodoService {
 
     private final TodoRepository todoRepository;
+    private final ArchivedTodoRepository archivedTodoRepository;
+    private final ManagerRepository managerRepository;
+    private final CommentRepository commentRepository;
     private final WeatherClient weatherClient;
+    private final TodoBatchWriter todoBatchWriter;
+    private final TodoDeleter todoDeleter;
+    private final TodoCache todoCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
-        final String weather = weatherClient.getTodayWeather();
-        return doSaveTodo(authUser, todoSaveRequest, weather);
-    }
+    @Value("${todo.weather.async:false}")
+    private boolean asyncWeather;
 
-    @Transactional
-    protected TodoSaveResponse doSaveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest, String weather) {
+    public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        // 비동기 모드에서는 날씨 없이 먼저 저장하고 TodoWeatherBackfillJob 이 나중에 채움
+        final String weather = asyncWeather ? null : weatherClient.getTodayWeather();
         User user = User.fromAuthUser(authUser);
 
         Todo newTodo = new Todo(
@@ -39,9 +65,38 @@ public class TodoService {
                 weather,
                 user
         );
-        Todo savedTodo = todoRepository.save(newTodo);
+        // 자기 호출로는 트랜잭션이 적용되지 않으므로 저장과 색인 이벤트 발행은 트랜잭션 빈에서 수행해 커밋 후에 반영되게 함
+        todoBatchWriter.saveAll(List.of(newTodo));
 
-        return TodoSaveResponse.of(savedTodo, weather, UserResponse.of(user));
+        return TodoSaveResponse.of(newTodo, weather, UserResponse.of(user));
+    }
+
+    public TodoBatchSaveResponse saveTodos(AuthUser authUser, TodoBatchSaveRequest todoBatchSaveRequest) {
+        // 날씨는 요청 전체에 대해 한 번만 조회
+        final String weather = asyncWeather ? null : weatherClient.getTodayWeather();
+        User user = User.fromAuthUser(authUser);
+
+        List<TodoSaveRequest> requests = todoBatchSaveRequest.getTodos();
+        Todo[] todosByIndex = new Todo[requests.size()];
+        List<Todo> newTodos = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            TodoSaveRequest request = requests.get(i);
+            if (request == null || !StringUtils.hasText(request.getTitle()) || !StringUtils.hasText(request.getContents())) {
+                continue;
+            }
+            todosByIndex[i] = new Todo(request.getTitle(), request.getContents(), weather, user);
+            newTodos.add(todosByIndex[i]);
+        }
+
+        todoBatchWriter.saveAll(newTodos);
+
+        List<TodoBatchItemResult> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < todosByIndex.length; i++) {
+            results.add(todosByIndex[i] != null
+                    ? TodoBatchItemResult.success(i, todosByIndex[i].getId())
+                    : TodoBatchItemResult.failure(i, "title 과 contents 는 필수입니다."));
+        }
+        return TodoBatchSaveResponse.of(weather, UserResponse.of(user), results);
     }
 
     @Transactional(readOnly = true)
@@ -56,12 +111,84 @@ public class TodoService {
     }
 
     @Transactional(readOnly = true)
-    public TodoResponse getTodo(long todoId) {
+    public Page<TodoSummaryResponse> getTodoSummaries(int page, int size, int previewLength) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        // contents 는 요청한 경우에만 잘라서 조회
+        if (previewLength > 0) {
+            return todoRepository.findSummariesWithPreview(previewLength, pageable);
+        }
+        return todoRepository.findSummaries(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<Todo> todos;
+        if (cursor == null) {
+            todos = todoRepository.findFirstPageByKeyset(limit);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            todos = todoRepository.findNextPageByKeyset(keysetCursor.timestamp(), keysetCursor.id(), limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        List<Todo> content = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Todo last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return CursorResponse.of(
+                content.stream().map(todo -> TodoResponse.of(todo, UserResponse.of(todo.getUser()))).toList(),
+                nextCursor
+        );
+    }
+
+    /**
+     * 일정, 작성자, 담당자, 댓글을 한 번에 조회한다.
+     * 두 컬렉션을 함께 fetch join 하면 카테시안 곱이 생기므로 일정 / 담당자 / 댓글을 각각 fetch join 으로 조회해
+     * 데이터 양과 관계없이 쿼리 3 번으로 고정한다.
+     */
+    @Transactional(readOnly = true)
+    public TodoFullResponse getTodoFull(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        User user = todo.getUser();
+        List<ManagerResponse> managers = managerRepository.findByTodoIdWithUser(todoId).stream()
+                .map(manager -> ManagerResponse.of(manager, UserResponse.of(manager.getUser())))
+                .toList();
+        List<CommentResponse> comments = commentRepository.findByTodoIdWithUser(todoId).stream()
+                .map(comment -> CommentResponse.of(comment, UserResponse.of(comment.getUser())))
+                .toList();
 
-        return TodoResponse.of(todo, UserResponse.of(user));
+        return new TodoFullResponse(TodoResponse.of(todo, UserResponse.of(todo.getUser())), managers, comments);
+    }
+
+    @Transactional
+    public void deleteTodo(long userId, long todoId) {
+        Long ownerId = todoRepository.findUserIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (!ownerId.equals(userId)) {
+            throw new InvalidRequestException("일정을 생성한 유저만 일정을 삭제할 수 있습니다.");
+        }
+
+        todoDeleter.deleteAll(List.of(todoId));
+        eventPublisher.publishEvent(TodoEvent.of(TodoEventType.TODO_DELETED, todoId, null, ownerId, null));
+    }
+
+    public TodoResponse getTodo(long todoId) {
+        // 캐시 hit 시에는 트랜잭션을 시작하지 않고, miss 시에만 작성자와 함께 조회
+        // 원본 테이블에 없으면 보관 테이블에서 조회
+        return todoCache.get(todoId, id -> todoRepository.findByIdWithUser(id)
+                .map(todo -> TodoResponse.of(todo, UserResponse.of(todo.getUser())))
+                .or(() -> archivedTodoRepository.findByIdWithUser(id)
+                        .map(todo -> TodoResponse.of(todo, UserResponse.of(todo.getUser()))))
+                .orElseThrow(() -> new InvalidRequestException("Todo not found")));
     }
 }
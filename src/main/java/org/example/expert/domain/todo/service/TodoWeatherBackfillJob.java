@@ -0,0 +1,98 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.dto.PendingWeatherTodo;
+import org.example.expert.domain.todo.dto.TodoEvent;
+import org.example.expert.domain.todo.enums.TodoEventType;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 날씨 없이 저장된(weather IS NULL) 일정의 날씨를 주기적으로 채운다.
+ * 한 번 실행할 때 밀린 생성일을 모두 모아 날씨를 한 번에 조회하고, 생성일별로 한 번의 UPDATE 로 반영한다.
+ * 일정은 id 순으로 batchSize 건씩 끝까지 읽으며, 날씨를 구할 수 없는 일정은 id 로 건너뛰므로
+ * 그런 날짜가 앞쪽에 많이 쌓여 있어도 뒤쪽 날짜는 계속 채워진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "todo.weather.async", havingValue = "true")
+public class TodoWeatherBackfillJob {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TodoCache todoCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${todo.weather.backfill-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${todo.weather.backfill-interval:PT10S}")
+    public void backfill() {
+        List<LocalDate> pendingDates = todoRepository.findPendingWeatherDates();
+        if (pendingDates.isEmpty()) {
+            return;
+        }
+
+        // 날짜마다 외부 API 를 호출하면 weather.json 전체를 날짜 수만큼 받으므로 한 번에 조회
+        Map<LocalDate, String> weatherByDate;
+        try {
+            weatherByDate = weatherClient.getWeather(pendingDates);
+        } catch (RuntimeException e) {
+            // 일정은 weather IS NULL 로 남아 다음 주기에 다시 시도됨
+            log.warn("날씨 조회 실패: dates={}, cause={}", pendingDates.size(), e.getMessage());
+            return;
+        }
+        if (weatherByDate.size() < pendingDates.size()) {
+            log.warn("날씨 데이터가 없는 날짜: {}", pendingDates.stream().filter(date -> !weatherByDate.containsKey(date)).sorted().toList());
+        }
+        if (weatherByDate.isEmpty()) {
+            return;
+        }
+
+        long lastId = 0L;
+        while (true) {
+            List<PendingWeatherTodo> pendingTodos = todoRepository.findPendingWeather(lastId, PageRequest.of(0, batchSize));
+            if (pendingTodos.isEmpty()) {
+                return;
+            }
+            backfill(pendingTodos, weatherByDate);
+            lastId = pendingTodos.get(pendingTodos.size() - 1).id();
+        }
+    }
+
+    private void backfill(List<PendingWeatherTodo> pendingTodos, Map<LocalDate, String> weatherByDate) {
+        Map<LocalDate, List<PendingWeatherTodo>> todosByDate = pendingTodos.stream()
+                .collect(groupingBy(todo -> todo.createdAt().toLocalDate(), TreeMap::new, toList()));
+
+        todosByDate.forEach((date, todos) -> {
+            // 날씨를 구하지 못한 날짜(또는 조회 이후 추가된 날짜)는 다음 주기에 다시 시도
+            String weather = weatherByDate.get(date);
+            if (weather == null) {
+                return;
+            }
+            List<Long> todoIds = todos.stream().map(PendingWeatherTodo::id).toList();
+            int updated = todoRepository.updatePendingWeather(todoIds, weather);
+            todoCache.evictAll(todoIds);
+            // 작성자 id 를 담아 보내 구독자가 있어도 일정마다 작성자를 다시 조회하지 않도록 함
+            todos.forEach(todo -> eventPublisher.publishEvent(
+                    TodoEvent.of(TodoEventType.TODO_UPDATED, todo.id(), null, todo.userId(), null)));
+            log.info("날씨 반영 완료: date={}, weather={}, count={}", date, weather, updated);
+        });
+    }
+}
@@ -0,0 +1,198 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WeatherClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long responseDelayMillis;
+    private volatile int responseStatus = 200;
+    private volatile String todayWeather = "Sunny";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                Thread.sleep(responseDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = weatherJson().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("날씨 조회를 반복할 때: 외부 API 는 한 번만 호출된다")
+    void getTodayWeather_calledRepeatedly_fetchesOnce() {
+        // given
+        WeatherClient weatherClient = weatherClient(5);
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        assertEquals(1, requestCount.get());
+        assertEquals(1, meterRegistry.get("weather.upstream.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("캐시가 비어있을 때 동시에 조회하면: 진행 중인 요청 하나를 공유한다")
+    void getTodayWeather_concurrentMisses_shareSingleFetch() throws Exception {
+        // given
+        responseDelayMillis = 300;
+        todayWeather = "Rainy";
+        WeatherClient weatherClient = weatherClient(5);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<String>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(weatherClient::getTodayWeather));
+        }
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("Rainy", result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("외부 API 응답이 read timeout 을 넘길 때: 대체값을 반환한다")
+    void getTodayWeather_slowUpstream_returnsFallback() {
+        // given
+        responseDelayMillis = 1_000;
+        WeatherClient weatherClient = weatherClient(5);
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Unknown", weather);
+        assertEquals(1.0, meterRegistry.get("weather.fallback").counter().count());
+    }
+
+    @Test
+    @DisplayName("오늘 날짜에 날씨 값이 없을 때: null 대신 대체값을 반환한다")
+    void getTodayWeather_weatherMissing_returnsFallback() {
+        // given
+        todayWeather = null;
+        WeatherClient weatherClient = weatherClient(5);
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Unknown", first);
+        assertEquals("Unknown", second);
+        assertEquals(2.0, meterRegistry.get("weather.fallback").counter().count());
+    }
+
+    @Test
+    @DisplayName("여러 날짜를 한 번에 조회할 때: 캐시 범위 밖의 날짜는 외부 API 한 번으로 함께 읽고 없는 날짜는 빠진다")
+    void getWeather_multipleDates_fetchesOutOfWindowDatesOnce() {
+        // given
+        WeatherClient weatherClient = weatherClient(5);
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        LocalDate lastMonth = today.minusDays(40);
+
+        // when
+        Map<LocalDate, String> weatherByDate = weatherClient.getWeather(List.of(today, yesterday, lastMonth));
+
+        // then
+        assertEquals(Map.of(today, "Sunny", yesterday, "Rainy"), weatherByDate);
+        // 캐시 범위 갱신 1 번 + 범위 밖 날짜 1 번
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면: 서킷이 열리고 외부 API 를 호출하지 않는다")
+    void getTodayWeather_repeatedFailures_opensCircuit() {
+        // given
+        responseStatus = 500;
+        WeatherClient weatherClient = weatherClient(2);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Unknown", weatherClient.getTodayWeather());
+        }
+
+        // then
+        assertEquals(2, requestCount.get());
+        assertEquals(CircuitBreaker.State.OPEN.ordinal(),
+                meterRegistry.get("weather.circuit.state").gauge().value());
+    }
+
+    private WeatherClient weatherClient(int failureThreshold) {
+        WeatherProperties properties = new WeatherProperties(
+                "http://localhost:" + server.getAddress().getPort(),
+                Duration.ofMillis(500),
+                Duration.ofMillis(500),
+                2,
+                Duration.ofHours(24),
+                7,
+                failureThreshold,
+                Duration.ofMinutes(1),
+                "Unknown"
+        );
+        return new WeatherClient(new RestTemplateBuilder(), properties, meterRegistry);
+    }
+
+    private String weatherJson() {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        String yesterday = LocalDate.now().minusDays(1).format(DateTimeFormatter.ofPattern("MM-dd"));
+        String todayRecord = todayWeather == null
+                ? "{\"date\":\"" + today + "\"}"
+                : "{\"date\":\"" + today + "\",\"weather\":\"" + todayWeather + "\"}";
+        return "[{\"date\":\"02-30\",\"weather\":\"Cold\"},{\"date\":\"" + yesterday + "\",\"weather\":\"Rainy\"},"
+                + todayRecord + "]";
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WeatherJsonReaderTest {
+
+    @Test
+    @DisplayName("필요한 날짜를 모두 찾으면: 나머지 본문은 읽지 않는다")
+    void read_allDatesFound_stopsBeforeRemainingBody() throws Exception {
+        // given
+        String json = "[{\"date\":\"01-01\",\"weather\":\"Snowy\"},"
+                + "{\"date\":\"01-02\",\"weather\":\"Cold\",\"extra\":{\"a\":[1,2]}},"
+                + "{\"date\":\"01-03\", 깨진 데이터";
+
+        // when
+        Map<String, String> result = WeatherJsonReader.read(stream(json), Set.of("01-01", "01-02"));
+
+        // then
+        assertEquals(Map.of("01-01", "Snowy", "01-02", "Cold"), result);
+    }
+
+    @Test
+    @DisplayName("찾는 날짜가 없을 때: 빈 결과를 반환한다")
+    void read_dateMissing_returnsEmptyMap() throws Exception {
+        // given
+        String json = "[{\"date\":\"01-01\",\"weather\":\"Snowy\"}]";
+
+        // when
+        Map<String, String> result = WeatherJsonReader.read(stream(json), Set.of("12-31"));
+
+        // then
+        assertEquals(Map.of(), result);
+    }
+
+    @Test
+    @DisplayName("날짜만 있고 날씨가 없는 레코드는: 결과에 넣지 않는다")
+    void read_weatherMissing_skipsRecord() throws Exception {
+        // given
+        String json = "[{\"date\":\"01-01\"},{\"date\":\"01-02\",\"weather\":\"Cold\"}]";
+
+        // when
+        Map<String, String> result = WeatherJsonReader.read(stream(json), Set.of("01-01", "01-02"));
+
+        // then
+        assertEquals(Map.of("01-02", "Cold"), result);
+    }
+
+    private ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
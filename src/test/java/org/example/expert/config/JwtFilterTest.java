@@ -0,0 +1,114 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtFilterTest {
+
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+    private final AdminAuthInterceptor adminAuthInterceptor = new AdminAuthInterceptor();
+    private final AuthUserArgumentResolver authUserArgumentResolver = new AuthUserArgumentResolver();
+
+    @BeforeEach
+    void setUp() {
+        JwtUtil target = new JwtUtil();
+        ReflectionTestUtils.setField(target, "secretKey",
+                Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes()));
+        target.init();
+
+        jwtUtil = spy(target);
+        jwtFilter = new JwtFilter(jwtUtil, new JwtTokenCache(100), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("admin 요청 처리 시: 필터, 인터셉터, ArgumentResolver 를 거쳐도 서명 검증은 한 번만 수행된다")
+    void doFilter_adminRequest_verifiesTokenOnce() throws Exception {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "admin@a.com", UserRole.ADMIN);
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/admin/users/2");
+        request.addHeader("Authorization", bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        AuthUser[] resolved = new AuthUser[1];
+        jwtFilter.doFilter(request, response, handleRequest(resolved));
+
+        // then
+        verify(jwtUtil, times(1)).extractClaims(anyString());
+        assertEquals(200, response.getStatus());
+        assertEquals(1L, resolved[0].getId());
+        assertEquals("admin@a.com", resolved[0].getEmail());
+        assertEquals(UserRole.ADMIN, resolved[0].getUserRole());
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 반복 요청 시: 두 번째 요청부터는 서명 검증을 하지 않는다")
+    void doFilter_repeatedToken_skipsVerification() throws Exception {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "user@a.com", UserRole.USER);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+            request.addHeader("Authorization", bearerToken);
+            jwtFilter.doFilter(request, new MockHttpServletResponse(), handleRequest(new AuthUser[1]));
+        }
+
+        // then
+        verify(jwtUtil, times(1)).extractClaims(anyString());
+    }
+
+    @Test
+    @DisplayName("일반 유저가 admin 요청 시: 403 을 반환하고 요청이 진행되지 않는다")
+    void doFilter_userOnAdminPath_returnsForbidden() throws Exception {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "user@a.com", UserRole.USER);
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/admin/users/2");
+        request.addHeader("Authorization", bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        AuthUser[] resolved = new AuthUser[1];
+        jwtFilter.doFilter(request, response, handleRequest(resolved));
+
+        // then
+        assertEquals(403, response.getStatus());
+        assertNull(resolved[0]);
+    }
+
+    // DispatcherServlet 이 수행하는 인터셉터 -> ArgumentResolver 순서를 흉내냄
+    private FilterChain handleRequest(AuthUser[] resolved) {
+        return (req, res) -> {
+            MockHttpServletRequest request = (MockHttpServletRequest) req;
+            MockHttpServletResponse response = (MockHttpServletResponse) res;
+            try {
+                if (request.getRequestURI().startsWith("/admin")
+                        && !adminAuthInterceptor.preHandle(request, response, new Object())) {
+                    return;
+                }
+                resolved[0] = (AuthUser) authUserArgumentResolver.resolveArgument(
+                        null, null, new ServletWebRequest(request), null);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
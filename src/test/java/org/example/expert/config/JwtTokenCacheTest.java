@@ -0,0 +1,54 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenCacheTest {
+
+    private final JwtTokenCache jwtTokenCache = new JwtTokenCache(100);
+
+    @Test
+    @DisplayName("검증된 토큰을 캐시할 때: 같은 토큰으로 조회하면 인증 정보를 반환하고 hit 로 집계된다")
+    void get_withCachedToken_returnsAuthUser() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        jwtTokenCache.put("token", authUser, new Date(System.currentTimeMillis() + 60_000));
+
+        // when
+        AuthUser result = jwtTokenCache.get("token");
+
+        // then
+        assertSame(authUser, result);
+        assertEquals(1, jwtTokenCache.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("캐시되지 않은 토큰을 조회할 때: null 을 반환하고 miss 로 집계된다")
+    void get_withUnknownToken_returnsNull() {
+        // when
+        AuthUser result = jwtTokenCache.get("unknown");
+
+        // then
+        assertNull(result);
+        assertEquals(1, jwtTokenCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰을 저장할 때: 캐시에 저장되지 않는다")
+    void put_withExpiredToken_isNotCached() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+
+        // when
+        jwtTokenCache.put("expired", authUser, new Date(System.currentTimeMillis() - 1_000));
+
+        // then
+        assertNull(jwtTokenCache.get("expired"));
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentQueryCountTest {
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("댓글을 저장할 때: 일정을 조회하지 않고 카운터 UPDATE 와 INSERT 두 번으로 처리된다")
+    void saveComment_usesTwoStatements() {
+        // given
+        User author = userRepository.save(new User("comment-count@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", author));
+        AuthUser authUser = new AuthUser(author.getId(), author.getEmail(), UserRole.USER);
+        statistics.clear();
+
+        // when
+        commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("contents"));
+
+        // then
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, todoRepository.findById(todo.getId()).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    @DisplayName("없는 일정에 댓글을 저장할 때: UPDATE 한 번으로 확인하고 INSERT 하지 않는다")
+    void saveComment_todoNotFound_usesOneStatement() {
+        // given
+        User author = userRepository.save(new User("comment-missing@example.com", "password", UserRole.USER));
+        AuthUser authUser = new AuthUser(author.getId(), author.getEmail(), UserRole.USER);
+        statistics.clear();
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                commentService.saveComment(authUser, -1L, new CommentSaveRequest("contents")));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -6,10 +6,13 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
@@ -18,7 +21,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,7 +33,10 @@ import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -35,6 +45,10 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoCache todoCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private CommentService commentService;
 
@@ -46,7 +60,7 @@ class CommentServiceTest {
         CommentSaveRequest request = new CommentSaveRequest("contents");
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(todoRepository.adjustCommentCount(todoId, 1)).willReturn(0);
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -55,6 +69,7 @@ class CommentServiceTest {
 
         // then
         assertEquals("Todo not found", exception.getMessage());
+        verify(commentRepository, never()).save(any());
     }
 
     @Test
@@ -68,7 +83,8 @@ class CommentServiceTest {
         Todo todo = new Todo("title", "title", "contents", user);
         Comment comment = new Comment(request.getContents(), user, todo);
 
-        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.adjustCommentCount(todoId, 1)).willReturn(1);
+        given(todoRepository.getReferenceById(todoId)).willReturn(todo);
         given(commentRepository.save(any())).willReturn(comment);
 
         // when
@@ -76,6 +92,8 @@ class CommentServiceTest {
 
         // then
         assertNotNull(result);
+        verify(todoRepository).adjustCommentCount(todoId, 1);
+        verify(todoRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -120,4 +138,38 @@ class CommentServiceTest {
         // then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("댓글이 페이지 크기보다 많을 때 : 마지막 댓글의 (작성 시각, id) 를 커서로 반환하고 다음 페이지는 커서 이후부터 조회한다")
+    public void getCommentsByCursor_withMoreComments_returnsCursorForNextPage() {
+        // given
+        long todoId = 1;
+        User user = User.fromAuthUser(new AuthUser(1L, "email1", UserRole.USER));
+        Todo todo = new Todo("title", "title", "contents", user);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 2, 9, 0);
+        Comment newest = comment(3L, createdAt.plusMinutes(1), user, todo);
+        Comment second = comment(2L, createdAt, user, todo);
+        Comment oldest = comment(1L, createdAt, user, todo);
+
+        given(commentRepository.findFirstPageByTodoId(eq(todoId), any(Pageable.class))).willReturn(List.of(newest, second, oldest));
+        given(commentRepository.findNextPageByTodoId(eq(todoId), eq(createdAt), eq(2L), any(Pageable.class))).willReturn(List.of(oldest));
+
+        // when
+        CursorResponse<CommentResponse> first = commentService.getCommentsByCursor(todoId, null, 2);
+        CursorResponse<CommentResponse> next = commentService.getCommentsByCursor(todoId, first.nextCursor(), 2);
+
+        // then
+        assertThat(first.content()).hasSize(2);
+        assertTrue(first.hasNext());
+        assertEquals(new KeysetCursor(createdAt, 2L), KeysetCursor.decode(first.nextCursor()));
+        assertThat(next.content()).hasSize(1);
+        assertFalse(next.hasNext());
+    }
+
+    private Comment comment(long id, LocalDateTime createdAt, User user, Todo todo) {
+        Comment comment = new Comment("contents" + id, user, todo);
+        ReflectionTestUtils.setField(comment, "id", id);
+        ReflectionTestUtils.setField(comment, "createdAt", createdAt);
+        return comment;
+    }
 }
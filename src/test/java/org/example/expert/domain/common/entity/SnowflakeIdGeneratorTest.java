@@ -0,0 +1,102 @@
+package org.example.expert.domain.common.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("동시에 여러 스레드에서 생성해도: ID 가 중복되지 않는다")
+    void nextId_concurrentCalls_areUnique() throws Exception {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                List<Long> ids = new ArrayList<>();
+                for (int j = 0; j < 10_000; j++) {
+                    ids.add(generator.nextId());
+                }
+                return ids;
+            }));
+        }
+
+        // then
+        Set<Long> ids = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            ids.addAll(future.get());
+        }
+        executor.shutdown();
+        assertEquals(80_000, ids.size());
+    }
+
+    @Test
+    @DisplayName("같은 ms 에 시퀀스를 모두 사용하면: 다음 ms 로 넘어가 ID 가 계속 증가한다")
+    void nextId_sequenceExhausted_movesToNextMillis() {
+        // given
+        // 시퀀스 4096 개 + 초과 요청 1 회까지는 같은 ms, 그 이후 다음 ms
+        long base = SnowflakeIdGenerator.EPOCH + 1_000;
+        AtomicLong calls = new AtomicLong();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3,
+                () -> calls.incrementAndGet() <= SnowflakeIdGenerator.SEQUENCE_MASK + 2 ? base : base + 1);
+        long previous = -1;
+        for (int i = 0; i <= SnowflakeIdGenerator.SEQUENCE_MASK; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+
+        // when
+        long next = generator.nextId();
+
+        // then
+        assertTrue(next > previous);
+        assertEquals(1_001, next >>> (SnowflakeIdGenerator.NODE_ID_BITS + SnowflakeIdGenerator.SEQUENCE_BITS));
+        assertEquals(3, (next >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도: ID 는 감소하지 않는다")
+    void nextId_clockMovesBackwards_staysMonotonic() {
+        // given
+        AtomicLong now = new AtomicLong(SnowflakeIdGenerator.EPOCH + 5_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, now::get);
+        long first = generator.nextId();
+
+        // when
+        now.addAndGet(-1_000);
+        long second = generator.nextId();
+
+        // then
+        assertTrue(second > first);
+    }
+
+    @Test
+    @DisplayName("node-id 가 범위를 벗어나면: 예외가 발생한다")
+    void constructor_invalidNodeId_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024));
+    }
+
+    @Test
+    @DisplayName("node-id 설정: 숫자면 그 값, 없거나 비었거나 치환되지 않은 환경 변수면 예외가 발생한다")
+    void resolveNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> SnowflakeIdGenerator.resolveNodeId(null));
+        assertThrows(IllegalArgumentException.class, () -> SnowflakeIdGenerator.resolveNodeId(" "));
+        assertEquals(7, SnowflakeIdGenerator.resolveNodeId(" 7 "));
+        assertThrows(IllegalArgumentException.class, () -> SnowflakeIdGenerator.resolveNodeId("${NODE_ID}"));
+    }
+}
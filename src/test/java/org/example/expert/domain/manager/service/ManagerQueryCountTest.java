@@ -0,0 +1,150 @@
+package org.example.expert.domain.manager.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 테스트 설정에는 JDBC 배치가 없으므로 운영 설정(application.yml)과 같게 지정
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100"
+})
+class ManagerQueryCountTest {
+
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("담당자 50 명을 지정할 때: 인원 수와 관계없이 쿼리 4 번으로 처리된다")
+    void saveManagers_fiftyUsers_usesFixedStatementCount() {
+        // given
+        User owner = userRepository.save(new User("batch-owner@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            userIds.add(userRepository.save(new User("batch" + i + "@example.com", "password", UserRole.USER)).getId());
+        }
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+        statistics.clear();
+
+        // when
+        List<ManagerSaveResponse> responses = managerService.saveManagers(
+                authUser, todo.getId(), new ManagerBatchSaveRequest(userIds));
+
+        // then
+        // 작성자 확인을 겸한 카운터 UPDATE, 유저 IN 조회, 중복 IN 조회, 배치 INSERT
+        assertEquals(50, responses.size());
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(51, todoRepository.findById(todo.getId()).orElseThrow().getManagerCount());
+    }
+
+    @Test
+    @DisplayName("담당자를 지정하고 삭제할 때: 일정을 조회하지 않고 각각 쿼리 3 번으로 처리된다")
+    void saveAndDeleteManager_usesConditionalStatements() {
+        // given
+        User owner = userRepository.save(new User("single-owner@example.com", "password", UserRole.USER));
+        User managerUser = userRepository.save(new User("single-manager@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+
+        // when
+        statistics.clear();
+        ManagerSaveResponse saved = managerService.saveManager(authUser, todo.getId(), new ManagerSaveRequest(managerUser.getId()));
+        long saveCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        managerService.deleteManager(owner.getId(), todo.getId(), saved.id());
+        long deleteCount = statistics.getPrepareStatementCount();
+
+        // then
+        // 저장: 카운터 UPDATE, 유저 조회, INSERT / 삭제: 조건부 담당자 유저 조회, DELETE, 카운터 UPDATE
+        assertEquals(3, saveCount);
+        assertEquals(3, deleteCount);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, todoRepository.findById(todo.getId()).orElseThrow().getManagerCount());
+    }
+
+    @Test
+    @DisplayName("다른 유저가 담당자를 삭제할 때: 삭제되지 않고 권한 오류가 발생한다")
+    void deleteManager_notOwner_deletesNothing() {
+        // given
+        User owner = userRepository.save(new User("guard-owner@example.com", "password", UserRole.USER));
+        User other = userRepository.save(new User("guard-other@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        Long managerId = managerRepository.findByTodoIdWithUser(todo.getId()).get(0).getId();
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.deleteManager(other.getId(), todo.getId(), managerId));
+
+        // then
+        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+        assertTrue(managerRepository.existsById(managerId));
+    }
+
+    @Test
+    @DisplayName("담당 일정 목록을 조회할 때: 페이지마다 쿼리 1 번으로 최신 일정부터 조회된다")
+    void getManagedTodos_pagesByCursor_usesOneStatementPerPage() {
+        // given
+        User owner = userRepository.save(new User("feed-owner@example.com", "password", UserRole.USER));
+        User manager = userRepository.save(new User("feed-manager@example.com", "password", UserRole.USER));
+        AuthUser ownerAuth = new AuthUser(owner.getId(), owner.getEmail(), UserRole.USER);
+        List<Long> todoIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Todo todo = todoRepository.save(new Todo("title" + i, "contents", "Sunny", owner));
+            managerService.saveManagers(ownerAuth, todo.getId(), new ManagerBatchSaveRequest(List.of(manager.getId())));
+            todoIds.add(todo.getId());
+        }
+        todoRepository.save(new Todo("not managed", "contents", "Sunny", owner));
+        statistics.clear();
+
+        // when
+        CursorResponse<TodoSummaryResponse> first = managerService.getManagedTodos(manager.getId(), null, 2);
+        CursorResponse<TodoSummaryResponse> second = managerService.getManagedTodos(manager.getId(), first.nextCursor(), 2);
+
+        // then
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(List.of(todoIds.get(2), todoIds.get(1)), first.content().stream().map(TodoSummaryResponse::id).toList());
+        assertEquals(List.of(todoIds.get(0)), second.content().stream().map(TodoSummaryResponse::id).toList());
+        assertEquals(2, second.content().get(0).managerCount());
+        assertFalse(second.hasNext());
+    }
+}
@@ -1,43 +1,64 @@
 package org.example.expert.domain.manager.service;
 
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoEvent;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoEventType;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ManagerServiceTest {
 
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 2, 9, 0);
+
     @Mock
     private ManagerRepository managerRepository;
     @Mock
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private TodoCache todoCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private ManagerService managerService;
 
@@ -75,26 +96,22 @@ class ManagerServiceTest {
     }
 
     @Test
-    @DisplayName("매니저 저장 시: todo의 user가 null일 경우 InvalidRequestException을 throw")
-    void saveManager_givenTodoWithNullUser_throwsInvalidRequestException() {
+    @DisplayName("매니저 저장 시: todo가 없으면 InvalidRequestException을 throw")
+    void saveManager_givenInvalidTodo_throwsInvalidRequestException() {
         // given
         AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
         long todoId = 1L;
-        long managerUserId = 2L;
+        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(2L);
 
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "user", null);
-
-        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
-
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoRepository.adjustManagerCountByOwner(todoId, 1L, 1)).willReturn(0);
+        given(todoRepository.findUserIdById(todoId)).willReturn(Optional.empty());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
-            managerService.saveManager(authUser, todoId, managerSaveRequest)
+                managerService.saveManager(authUser, todoId, managerSaveRequest)
         );
 
-        assertEquals("일정을 생성한 유저만 담당자를 지정할 수 있습니다.", exception.getMessage());
+        assertEquals("Todo not found", exception.getMessage());
     }
 
     @Test
@@ -102,16 +119,11 @@ class ManagerServiceTest {
     void saveManager_givenTodoWithWrongUser_throwsInvalidRequestException() {
         // given
         AuthUser requestUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        AuthUser ownerUser = new AuthUser(2L, "b@b.com", UserRole.USER);
-        User owner = User.fromAuthUser(ownerUser);
-
         long todoId = 1L;
-        long managerUserId = 3L;
+        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(3L);
 
-        Todo todo = new Todo("title", "contents", "weather", owner);
-        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
-
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoRepository.adjustManagerCountByOwner(todoId, 1L, 1)).willReturn(0);
+        given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(2L));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -119,6 +131,7 @@ class ManagerServiceTest {
         );
 
         assertEquals("일정을 생성한 유저만 담당자를 지정할 수 있습니다.", exception.getMessage());
+        verify(managerRepository, never()).save(any(Manager.class));
     }
 
     @Test
@@ -126,16 +139,10 @@ class ManagerServiceTest {
     void saveManager_givenOwnerTriesToEntrySelf_throwsInvalidRequestException() {
         // given
         AuthUser ownerUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User owner = User.fromAuthUser(ownerUser);
-
         long todoId = 1L;
-        long managerUserId = 1L;
-
-        Todo todo = new Todo("title", "contents", "weather", owner);
-        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
+        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(1L);
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(managerUserId)).willReturn(Optional.of(owner));
+        given(todoRepository.adjustManagerCountByOwner(todoId, 1L, 1)).willReturn(1);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
@@ -145,7 +152,6 @@ class ManagerServiceTest {
         assertEquals("일정 작성자는 본인을 담당자로 등록할 수 없습니다.", exception.getMessage());
     }
 
-
     @Test // 테스트코드 샘플
     public void manager_목록_조회에_성공한다() {
         // given
@@ -173,10 +179,7 @@ class ManagerServiceTest {
     void todo가_정상적으로_등록된다() {
         // given
         AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(authUser);  // 일정을 만든 유저
-
         long todoId = 1L;
-        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
 
         long managerUserId = 2L;
         User managerUser = new User("b@b.com", "password", UserRole.USER);  // 매니저로 등록할 유저
@@ -184,7 +187,8 @@ class ManagerServiceTest {
 
         ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(todoRepository.adjustManagerCountByOwner(todoId, 1L, 1)).willReturn(1);
+        given(todoRepository.getReferenceById(todoId)).willReturn(new Todo());
         given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
         given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
 
@@ -195,179 +199,229 @@ class ManagerServiceTest {
         assertNotNull(response);
         assertEquals(managerUser.getId(), response.user().id());
         assertEquals(managerUser.getEmail(), response.user().email());
+        verify(todoCache).evict(todoId);
     }
 
     @Test
-    @DisplayName("매니저 삭제 시: 유저 조회 실패 시 InvalidRequestException을 throw")
-    void deleteManager_givenInvalidUser_throwsInvalidRequestException() {
+    @DisplayName("매니저 삭제 시: todo가 없으면 InvalidRequestException을 throw")
+    void deleteManager_givenInvalidTodo_throwsInvalidRequestException() {
         // given
-        long userId = 99L;
-        long todoId = 1L;
+        long userId = 1L;
+        long todoId = 99L;
         long managerId = 1L;
 
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        given(managerRepository.findUserIdByIdAndTodoIdAndOwnerId(managerId, todoId, userId)).willReturn(Optional.empty());
+        given(todoRepository.findUserIdById(todoId)).willReturn(Optional.empty());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
                 managerService.deleteManager(userId, todoId, managerId)
         );
 
-        assertEquals("User not found", exception.getMessage());
+        assertEquals("Todo not found", exception.getMessage());
     }
 
     @Test
-    @DisplayName("매니저 삭제 시: todo 조회 실패 시 InvalidRequestException을 throw")
-    void deleteManager_givenInvalidTodo_throwsInvalidRequestException() {
+    @DisplayName("매니저 삭제 시: todo의 user와 요청자가 다를경우 InvalidRequestException을 throw")
+    void deleteManager_givenTodoWithDifferentUser_throwsInvalidRequestException() {
         // given
         long userId = 1L;
-        long todoId = 99L;
+        long todoId = 1L;
         long managerId = 1L;
 
-        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(managerRepository.findUserIdByIdAndTodoIdAndOwnerId(managerId, todoId, userId)).willReturn(Optional.empty());
+        given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(2L));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
                 managerService.deleteManager(userId, todoId, managerId)
         );
 
-        assertEquals("Todo not found", exception.getMessage());
+        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
     }
 
     @Test
-    @DisplayName("매니저 삭제 시: todo의 user가 null일 경우 InvalidRequestException을 throw")
-    void deleteManager_givenTodoWithNullUser_throwsInvalidRequestException() {
+    @DisplayName("매니저 삭제 시: managerId 조회 결과가 없으면 InvalidRequestException을 throw")
+    void deleteManager_givenInvalidManagerId_throwsInvalidRequestException() {
         // given
         long userId = 1L;
         long todoId = 1L;
-        long managerId = 100L;
+        long managerId = 99L;
 
-        AuthUser requestUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(requestUser);
-        given(userRepository.findById(1L)).willReturn(Optional.of(user));
-
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "user", null);
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(managerRepository.findUserIdByIdAndTodoIdAndOwnerId(managerId, todoId, userId)).willReturn(Optional.empty());
+        given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(userId));
+        given(managerRepository.existsById(managerId)).willReturn(false);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
                 managerService.deleteManager(userId, todoId, managerId)
         );
 
-        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+        assertEquals("Manager not found", exception.getMessage());
     }
 
     @Test
-    @DisplayName("매니저 삭제 시: todo의 user와 요청자가 다를경우 InvalidRequestException을 throw")
-    void deleteManager_givenTodoWithDifferentUser_throwsInvalidRequestException() {
+    @DisplayName("매니저 삭제 시: manager todo가 요청한 todo와 다르면 InvalidRequestException을 throw")
+    void deleteManager_givenManagerNotAuthoritiesInRequestTodo_throwsInvalidRequestException() {
         // given
         long userId = 1L;
         long todoId = 1L;
-        long managerId = 100L;
-
-        AuthUser requestUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(requestUser);
-        given(userRepository.findById(1L)).willReturn(Optional.of(user));
-
-        AuthUser ownerUser = new AuthUser(2L, "b@b.com", UserRole.USER);
-        User owner = User.fromAuthUser(ownerUser);
+        long managerId = 1L;
 
-        Todo todo = new Todo("title", "contents", "weather", owner);
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(managerRepository.findUserIdByIdAndTodoIdAndOwnerId(managerId, todoId, userId)).willReturn(Optional.empty());
+        given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(userId));
+        given(managerRepository.existsById(managerId)).willReturn(true);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
                 managerService.deleteManager(userId, todoId, managerId)
         );
 
-        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+        assertEquals("해당 일정에 등록된 담당자가 아닙니다.", exception.getMessage());
     }
 
     @Test
-    @DisplayName("매니저 삭제 시: managerId 조회 결과가 없으면 InvalidRequestException을 throw")
-    void deleteManager_givenInvalidManagerId_throwsInvalidRequestException() {
+    @DisplayName("매니저 삭제 시: 원인 조회 없이 카운터를 줄이고 해제된 담당자에게 알린다")
+    void deleteManager_withValidInput_deleteManager() {
         // given
         long userId = 1L;
         long todoId = 1L;
-        long managerId = 99L;
-
-        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        long managerId = 12345L;
 
-        Todo todo = new Todo("title", "contents", "weather", user);
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        long managerUserId = 2L;
 
-        given(managerRepository.findById(managerId)).willReturn(Optional.empty());
+        given(managerRepository.findUserIdByIdAndTodoIdAndOwnerId(managerId, todoId, userId)).willReturn(Optional.of(managerUserId));
+        given(managerRepository.deleteByIdAndTodoId(managerId, todoId)).willReturn(1);
 
-        // when & then
-        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
-                managerService.deleteManager(userId, todoId, managerId)
-        );
+        // when
+        managerService.deleteManager(userId, todoId, managerId);
 
-        assertEquals("Manager not found", exception.getMessage());
+        // then
+        verify(todoRepository).adjustManagerCount(todoId, -1);
+        verify(todoRepository, never()).findUserIdById(anyLong());
+        verify(todoCache).evict(todoId);
+        ArgumentCaptor<TodoEvent> captor = ArgumentCaptor.forClass(TodoEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(TodoEventType.MANAGER_REMOVED, captor.getValue().type());
+        assertEquals(userId, captor.getValue().ownerId());
+        assertEquals(managerUserId, captor.getValue().userId());
     }
 
     @Test
-    @DisplayName("매니저 삭제 시: manager todo가 요청한 todo와 다르면 InvalidRequestException을 throw")
-    void deleteManager_givenManagerNotAuthoritiesInRequestTodo_throwsInvalidRequestException() {
+    @DisplayName("담당자를 여러 명 지정할 때: 이미 등록된 담당자가 있으면 InvalidRequestException을 throw")
+    void saveManagers_givenExistingManager_throwsInvalidRequestException() {
         // given
-        long userId = 1L;
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
         long todoId = 1L;
-        long otherTodoId = 2L;
-        long managerId = 1L;
+        User user2 = new User("b@b.com", "password", UserRole.USER);
+        User user3 = new User("c@c.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user2, "id", 2L);
+        ReflectionTestUtils.setField(user3, "id", 3L);
 
-        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(todoRepository.adjustManagerCountByOwner(eq(todoId), eq(1L), anyLong())).willReturn(1);
+        given(userRepository.findAllById(any())).willReturn(List.of(user2, user3));
+        given(managerRepository.findUserIdsByTodoIdAndUserIdIn(eq(todoId), any())).willReturn(List.of(3L));
 
-        // 요청
-        Todo requestedTodo = new Todo("title", "contents", "weather", user);
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(requestedTodo));
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.saveManagers(authUser, todoId, new ManagerBatchSaveRequest(List.of(2L, 3L)))
+        );
 
-        // 실제 속한 투두
-        Todo otherTodo = new Todo("other", "other", "weather2", user);
-        ReflectionTestUtils.setField(otherTodo, "id", otherTodoId);
+        assertEquals("이미 등록된 담당자입니다. userIds=[3]", exception.getMessage());
+        verify(managerRepository, never()).saveAll(anyList());
+    }
 
-        Manager manager = new Manager(user, otherTodo);
-        given(managerRepository.findById(managerId)).willReturn(Optional.of(manager));
+    @Test
+    @DisplayName("담당자를 여러 명 지정할 때: 존재하지 않는 유저가 있으면 InvalidRequestException을 throw")
+    void saveManagers_givenMissingUser_throwsInvalidRequestException() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        User user2 = new User("b@b.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user2, "id", 2L);
 
+        given(todoRepository.adjustManagerCountByOwner(eq(todoId), eq(1L), anyLong())).willReturn(1);
+        given(userRepository.findAllById(any())).willReturn(List.of(user2));
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
-                managerService.deleteManager(userId, todoId, managerId)
+                managerService.saveManagers(authUser, todoId, new ManagerBatchSaveRequest(List.of(2L, 4L)))
         );
 
-        assertEquals("해당 일정에 등록된 담당자가 아닙니다.", exception.getMessage());
+        assertEquals("등록하려고 하는 담당자 유저가 존재하지 않습니다. userIds=[4]", exception.getMessage());
     }
 
     @Test
-    @DisplayName("매니저 삭제 시: 모든 조건이 충족되면 managerRepository.delete가 호출된다")
-    void deleteManager_withValidInput_deleteManager() {
+    @DisplayName("담당자를 여러 명 지정할 때: 중복 id 는 한 번만 등록하고 카운터를 한 번에 갱신한다")
+    void saveManagers_withValidInput_savesAllAtOnce() {
         // given
-        long userId = 1L;
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
         long todoId = 1L;
-        long managerId = 12345L;
+        User user2 = new User("b@b.com", "password", UserRole.USER);
+        User user3 = new User("c@c.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(user2, "id", 2L);
+        ReflectionTestUtils.setField(user3, "id", 3L);
 
-        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(todoRepository.adjustManagerCountByOwner(eq(todoId), eq(1L), anyLong())).willReturn(1);
+        given(userRepository.findAllById(any())).willReturn(List.of(user3, user2));
+        given(managerRepository.findUserIdsByTodoIdAndUserIdIn(eq(todoId), any())).willReturn(List.of());
+        given(todoRepository.getReferenceById(todoId)).willReturn(new Todo());
 
-        Todo todo = new Todo("title", "contents", "weather", user);
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        // when
+        List<ManagerSaveResponse> responses = managerService.saveManagers(
+                authUser, todoId, new ManagerBatchSaveRequest(List.of(2L, 3L, 2L)));
 
-        Manager manager = new Manager(user, todo);
-        given(managerRepository.findById(managerId)).willReturn(Optional.of(manager));
+        // then
+        assertEquals(List.of(2L, 3L), responses.stream().map(response -> response.user().id()).toList());
+        verify(todoRepository).adjustManagerCountByOwner(todoId, 1L, 2);
+        verify(managerRepository).saveAll(anyList());
+        verify(todoCache).evict(todoId);
+    }
+
+    @Test
+    @DisplayName("담당 일정 목록 조회 시: 한 건 더 조회되면 마지막 일정의 (생성 시각, id) 를 다음 커서로 반환한다")
+    void getManagedTodos_withMoreRows_returnsNextCursor() {
+        // given
+        given(managerRepository.findManagedTodos(eq(1L), eq(Long.MAX_VALUE), any(Pageable.class))).willReturn(List.of(
+                summary(30L), summary(20L), summary(10L)
+        ));
 
         // when
-        managerService.deleteManager(userId, todoId, managerId);
+        CursorResponse<TodoSummaryResponse> response = managerService.getManagedTodos(1L, null, 2);
+
+        // then
+        assertEquals(List.of(30L, 20L), response.content().stream().map(TodoSummaryResponse::id).toList());
+        assertEquals(new KeysetCursor(CREATED_AT, 20L), KeysetCursor.decode(response.nextCursor()));
+        assertTrue(response.hasNext());
+    }
+
+    @Test
+    @DisplayName("담당 일정 목록 조회 시: 커서 이후의 일정만 조회하고 마지막 페이지에는 커서가 없다")
+    void getManagedTodos_withCursor_returnsLastPage() {
+        // given
+        given(managerRepository.findManagedTodos(eq(1L), eq(20L), any(Pageable.class))).willReturn(List.of(summary(10L)));
+
+        // when
+        CursorResponse<TodoSummaryResponse> response = managerService.getManagedTodos(1L, new KeysetCursor(CREATED_AT, 20L).encode(), 2);
 
         // then
-        verify(managerRepository).delete(manager);
+        assertEquals(1, response.content().size());
+        assertNull(response.nextCursor());
+        assertFalse(response.hasNext());
     }
 
+    @Test
+    @DisplayName("담당 일정 목록 조회 시: 커서가 올바르지 않으면(일정 id 를 그대로 보내도) InvalidRequestException을 throw")
+    void getManagedTodos_invalidCursor_throwsInvalidRequestException() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.getManagedTodos(1L, "20", 10)
+        );
+
+        assertEquals("유효하지 않은 cursor 입니다.", exception.getMessage());
+    }
+
+    private TodoSummaryResponse summary(long todoId) {
+        return new TodoSummaryResponse(todoId, "title", "Sunny", 0L, 1L, 2L, "b@b.com", CREATED_AT, CREATED_AT);
+    }
 }
@@ -0,0 +1,178 @@
+package org.example.expert.domain.todo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TodoETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private TodoCache todoCache;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User author;
+    private Todo todo;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(new User(uniqueEmail(), "password", UserRole.USER));
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", author));
+        token = jwtUtil.createToken(author.getId(), author.getEmail(), UserRole.USER);
+    }
+
+    @Test
+    @DisplayName("일정 조회: ETag 가 같으면 본문 없이 304, 댓글이 추가되면 새 ETag 로 200 을 응답한다")
+    void getTodo_conditionalRequest() throws Exception {
+        String url = "/todos/" + todo.getId();
+        String eTag = getWithETag(url);
+
+        assertNotModified(url, eTag);
+        saveComment();
+        assertNotEquals(eTag, getWithETag(url, eTag));
+    }
+
+    @Test
+    @DisplayName("캐시에 적재된 뒤 일정이 바뀌어도: ETag 는 실제로 내려준 본문에서 계산해 본문과 어긋나지 않는다")
+    void getTodo_updatedAfterCached_eTagMatchesBody() throws Exception {
+        // given
+        String url = "/todos/" + todo.getId();
+        String cachedETag = getWithETag(url);
+        // 무효화를 거치지 않고 DB 만 바꿔 캐시 적재와 변경이 엇갈린 상황을 만듦
+        jdbcTemplate.update("UPDATE todos SET weather = ? WHERE id = ?", "Rainy", todo.getId());
+
+        // when & then
+        // 캐시된 본문을 내려주는 동안에는 ETag 도 그 본문의 것
+        MvcResult cached = mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertETagMatchesBody(cached);
+        assertEquals(cachedETag, cached.getResponse().getHeader(HttpHeaders.ETAG));
+
+        // 캐시가 비워지면 새 본문과 새 ETag 를 함께 내려줌
+        todoCache.evict(todo.getId());
+        MvcResult reloaded = mockMvc.perform(get(url)
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .header(HttpHeaders.IF_NONE_MATCH, cachedETag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals("Rainy", assertETagMatchesBody(reloaded).weather());
+        assertNotEquals(cachedETag, reloaded.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회: ETag 가 같으면 본문 없이 304, 댓글이 추가되면 새 ETag 로 200 을 응답한다")
+    void getComments_conditionalRequest() throws Exception {
+        String url = "/todos/" + todo.getId() + "/comments";
+        String eTag = getWithETag(url);
+
+        assertNotModified(url, eTag);
+        saveComment();
+        assertNotEquals(eTag, getWithETag(url, eTag));
+    }
+
+    @Test
+    @DisplayName("담당자 목록 조회: ETag 가 같으면 본문 없이 304, 담당자가 삭제되면 새 ETag 로 200 을 응답한다")
+    void getManagers_conditionalRequest() throws Exception {
+        // given
+        User managerUser = userRepository.save(new User(uniqueEmail(), "password", UserRole.USER));
+        Manager manager = managerRepository.save(new Manager(managerUser, todo));
+        String url = "/todos/" + todo.getId() + "/managers";
+        String eTag = getWithETag(url);
+
+        assertNotModified(url, eTag);
+        mockMvc.perform(delete(url + "/" + manager.getId()).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk());
+        assertNotEquals(eTag, getWithETag(url, eTag));
+    }
+
+    private void saveComment() throws Exception {
+        mockMvc.perform(post("/todos/" + todo.getId() + "/comments")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"contents\":\"comment\"}"))
+                .andExpect(status().isOk());
+    }
+
+    private String getWithETag(String url) throws Exception {
+        return getWithETag(url, null);
+    }
+
+    // If-None-Match 를 보내더라도 바뀌었으면 200 과 새 ETag 를 받는다
+    private String getWithETag(String url, String ifNoneMatch) throws Exception {
+        var request = get(url).header(HttpHeaders.AUTHORIZATION, token);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+        return eTag;
+    }
+
+    private void assertNotModified(String url, String eTag) throws Exception {
+        MvcResult result = mockMvc.perform(get(url)
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andReturn();
+        assertEquals(eTag, result.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    private TodoResponse assertETagMatchesBody(MvcResult result) throws Exception {
+        TodoResponse body = objectMapper.readValue(result.getResponse().getContentAsString(), TodoResponse.class);
+        assertEquals("\"" + TodoVersion.of(body).toETag() + "\"", result.getResponse().getHeader(HttpHeaders.ETAG));
+        return body;
+    }
+
+    private String uniqueEmail() {
+        return System.nanoTime() + "@example.com";
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.dto;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TodoVersionTest {
+
+    private final LocalDateTime modifiedAt = LocalDateTime.of(2024, 5, 2, 9, 0);
+
+    @Test
+    @DisplayName("날씨만 채워졌을 때: 수정 시각이 같아도 ETag 가 바뀐다")
+    void toETag_weatherBackfilled_changesETag() {
+        // when
+        String before = TodoVersion.of(todoResponse(null, 0)).toETag();
+        String after = TodoVersion.of(todoResponse("Sunny", 0)).toETag();
+
+        // then
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    @DisplayName("카운터만 바뀌었을 때: ETag 가 바뀌고, 같은 응답이면 같은 ETag 를 만든다")
+    void toETag_commentCountChanged_changesETag() {
+        // when & then
+        assertNotEquals(TodoVersion.of(todoResponse("Sunny", 0)).toETag(), TodoVersion.of(todoResponse("Sunny", 1)).toETag());
+        assertEquals(TodoVersion.of(todoResponse("Sunny", 1)).toETag(), TodoVersion.of(todoResponse("Sunny", 1)).toETag());
+    }
+
+    private TodoResponse todoResponse(String weather, long commentCount) {
+        return new TodoResponse(1L, "title", "contents", weather, commentCount, 1,
+                new UserResponse(1L, "a@a.com"), modifiedAt, modifiedAt);
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.ArchivedTodoRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "todo.archive.batch-size=2")
+class TodoArchiveJobTest {
+
+    @Autowired
+    private TodoArchiveJob todoArchiveJob;
+    @Autowired
+    private TodoArchiver todoArchiver;
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ArchivedTodoRepository archivedTodoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("오래된 일정을 보관할 때: 댓글, 담당자와 함께 옮겨지고 단건 조회는 보관 테이블에서 응답한다")
+    void archive_oldTodos_movesToArchiveAndStillReadable() {
+        // given
+        User author = userRepository.save(new User("archive@example.com", "password", UserRole.USER));
+        LocalDateTime old = LocalDateTime.now().minusYears(1);
+        Todo oldTodo = saveTodo(author, "old", 2, old, old);
+        Todo oldTodo2 = saveTodo(author, "old2", 0, old, old);
+        Todo oldTodo3 = saveTodo(author, "old3", 0, old, old);
+        Todo recentlyCommented = saveTodo(author, "commented", 1, old, LocalDateTime.now());
+        Todo recent = saveTodo(author, "recent", 0, LocalDateTime.now(), LocalDateTime.now());
+
+        // when
+        int archived = todoArchiveJob.archive();
+
+        // then
+        assertEquals(3, archived);
+        assertFalse(todoRepository.existsById(oldTodo.getId()));
+        assertFalse(todoRepository.existsById(oldTodo2.getId()));
+        assertFalse(todoRepository.existsById(oldTodo3.getId()));
+        assertTrue(todoRepository.existsById(recentlyCommented.getId()));
+        assertTrue(todoRepository.existsById(recent.getId()));
+        assertEquals(2, count("comments_archive", oldTodo.getId()));
+        assertEquals(1, count("managers_archive", oldTodo.getId()));
+
+        TodoResponse response = todoService.getTodo(oldTodo.getId());
+        assertEquals("old", response.title());
+        assertEquals(2, response.commentCount());
+        assertEquals("archive@example.com", response.user().email());
+        assertTrue(archivedTodoRepository.existsById(oldTodo.getId()));
+    }
+
+    @Test
+    @DisplayName("대상 조회 후 보관 전에 댓글이 달리면: 잠글 때 조건을 다시 확인해 보관하지 않는다")
+    void archive_commentedAfterSelect_skipsTodo() {
+        // given
+        User author = userRepository.save(new User("archive-race@example.com", "password", UserRole.USER));
+        LocalDateTime old = LocalDateTime.now().minusYears(1);
+        Todo oldTodo = saveTodo(author, "old", 0, old, old);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(180);
+        List<Long> todoIds = todoRepository.findIdsToArchive(cutoff, PageRequest.of(0, 10));
+        assertTrue(todoIds.contains(oldTodo.getId()));
+
+        // 조회와 보관 사이에 커밋된 댓글
+        commentRepository.save(new Comment("fresh", author, oldTodo));
+
+        // when
+        int archived = todoArchiver.archive(todoIds, cutoff);
+
+        // then
+        assertEquals(0, archived);
+        assertTrue(todoRepository.existsById(oldTodo.getId()));
+        assertFalse(archivedTodoRepository.existsById(oldTodo.getId()));
+    }
+
+    private Todo saveTodo(User author, String title, int commentCount, LocalDateTime modifiedAt, LocalDateTime commentedAt) {
+        Todo todo = todoRepository.save(new Todo(title, "contents", "Sunny", author));
+        for (int i = 0; i < commentCount; i++) {
+            commentRepository.save(new Comment("comment" + i, author, todo));
+        }
+        // 감사(auditing) 필드는 저장 시 현재 시각으로 채워지므로 SQL 로 직접 변경
+        jdbcTemplate.update("UPDATE todos SET modified_at = ?, comment_count = ? WHERE id = ?",
+                Timestamp.valueOf(modifiedAt), commentCount, todo.getId());
+        jdbcTemplate.update("UPDATE comments SET modified_at = ? WHERE todo_id = ?",
+                Timestamp.valueOf(commentedAt), todo.getId());
+        return todo;
+    }
+
+    private long count(String table, long todoId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE todo_id = ?", Long.class, todoId);
+    }
+}
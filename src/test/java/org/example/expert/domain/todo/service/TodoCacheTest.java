@@ -0,0 +1,100 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TodoCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TodoCache todoCache = new TodoCache(100, Duration.ofMinutes(10), meterRegistry);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 일정을 동시에 조회할 때: DB 로딩은 한 번만 수행된다")
+    void get_concurrentMisses_loadOnce() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<TodoResponse>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> todoCache.get(1L, id -> {
+                loadCount.incrementAndGet();
+                await(loading);
+                return todoResponse(id, 10L);
+            })));
+        }
+        Thread.sleep(100);
+        loading.countDown();
+
+        // then
+        for (Future<TodoResponse> result : results) {
+            assertEquals(1L, result.get(5, TimeUnit.SECONDS).id());
+        }
+        executor.shutdown();
+        assertEquals(1, loadCount.get());
+        assertEquals(7.0, meterRegistry.get("cache.gets").tag("cache", "todo.detail").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면: 커밋 후에 캐시에서 제거된다")
+    void evict_insideTransaction_appliesAfterCommit() {
+        // given
+        todoCache.get(1L, this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        todoCache.evict(1L);
+
+        // then
+        assertEquals(1, todoCache.size());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        todoCache.get(1L, this::load);
+        assertEquals(2, loadCount.get());
+    }
+
+    private TodoResponse load(Long id) {
+        loadCount.incrementAndGet();
+        return todoResponse(id, 10L);
+    }
+
+    private TodoResponse todoResponse(Long id, Long userId) {
+        return new TodoResponse(id, "title", "contents", "Sunny", 0, 1, new UserResponse(userId, "a@a.com"), null, null);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
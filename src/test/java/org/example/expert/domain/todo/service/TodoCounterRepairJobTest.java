@@ -0,0 +1,76 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class TodoCounterRepairJobTest {
+
+    @Autowired
+    private TodoCounterRepairJob todoCounterRepairJob;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    @DisplayName("댓글을 저장할 때: 일정의 댓글 수가 함께 증가한다")
+    void saveComment_incrementsCommentCount() {
+        // given
+        User user = userRepository.save(new User("counter1@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+
+        // when
+        commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("comment1"));
+        commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("comment2"));
+
+        // then
+        Todo found = todoRepository.findById(todo.getId()).orElseThrow();
+        assertEquals(2, found.getCommentCount());
+        assertEquals(1, found.getManagerCount());
+    }
+
+    @Test
+    @DisplayName("카운터가 실제 행 수와 다를 때: 재계산하면 실제 댓글 수 / 담당자 수로 맞춰진다")
+    void repair_withDriftedCounters_recountsFromRows() {
+        // given
+        User user = userRepository.save(new User("counter2@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        // 카운터를 거치지 않고 댓글을 직접 저장해 카운터가 어긋난 상태를 만든다
+        commentRepository.saveAll(List.of(
+                new Comment("comment1", user, todo),
+                new Comment("comment2", user, todo),
+                new Comment("comment3", user, todo)
+        ));
+
+        // when
+        int processed = todoCounterRepairJob.repair();
+
+        // then
+        Todo found = todoRepository.findById(todo.getId()).orElseThrow();
+        assertEquals(3, found.getCommentCount());
+        assertEquals(1, found.getManagerCount());
+        assertEquals(todoRepository.count(), processed);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TodoCursorPaginationTest {
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("수정 시각이 같은 일정이 페이지 경계에 걸쳐도: id 로 이어서 빠짐없이 중복 없이 조회하고 마지막 페이지에는 커서가 없다")
+    void getTodosByCursor_sameModifiedAt_pagesWithoutGapsOrDuplicates() {
+        // given
+        // 다른 테스트의 일정보다 앞에 오도록 먼 미래의 같은 시각으로 지정
+        LocalDateTime tied = LocalDateTime.of(2998, 1, 1, 0, 0);
+        User author = userRepository.save(new User(System.nanoTime() + "@example.com", "password", UserRole.USER));
+        List<Long> tiedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Todo todo = todoRepository.save(new Todo("title" + i, "contents", "Sunny", author));
+            jdbcTemplate.update("UPDATE todos SET modified_at = ? WHERE id = ?", Timestamp.valueOf(tied), todo.getId());
+            tiedIds.add(todo.getId());
+        }
+        tiedIds.sort(Comparator.reverseOrder());
+
+        // when
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorResponse<TodoResponse> page = todoService.getTodosByCursor(cursor, 2);
+            page.content().forEach(todo -> seen.add(todo.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null && pages < 1_000);
+
+        // then
+        assertNull(cursor);
+        assertEquals(seen.size(), new HashSet<>(seen).size());
+        assertEquals(todoRepository.count(), seen.size());
+        assertEquals(tiedIds, seen.subList(seen.indexOf(tiedIds.get(0)), seen.indexOf(tiedIds.get(0)) + 5));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서를 보내면: InvalidRequestException 이 발생한다")
+    void getTodosByCursor_malformedCursor_throwsInvalidRequestException() {
+        String notBase64 = "%%%";
+        String noDelimiter = Base64.getUrlEncoder().encodeToString("2024-01-01T00:00".getBytes(StandardCharsets.UTF_8));
+        String badTimestamp = Base64.getUrlEncoder().encodeToString("yesterday|1".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2024-01-01T00:00|abc".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of(notBase64, noDelimiter, badTimestamp, badId)) {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> todoService.getTodosByCursor(cursor, 10));
+            assertEquals("유효하지 않은 cursor 입니다.", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoBulkDeleteRequest;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TodoDeleteQueryCountTest {
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TodoAdminService todoAdminService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("댓글이 많은 일정을 삭제할 때: 댓글 수와 관계없이 쿼리 4 번으로 삭제된다")
+    void deleteTodo_manyComments_usesFixedQueryCount() {
+        // given
+        Todo todo = saveTodoWithChildren(3, 2000);
+        statistics.clear();
+
+        // when
+        todoService.deleteTodo(todo.getUser().getId(), todo.getId());
+
+        // then
+        // 작성자 조회 1 + 댓글 / 담당자 / 일정 DELETE 3
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(todoRepository.existsById(todo.getId()));
+        assertEquals(0, commentRepository.findByTodoIdWithUser(todo.getId()).size());
+    }
+
+    @Test
+    @DisplayName("관리자가 id 목록으로 일괄 삭제할 때: 삭제된 행 수를 종류별로 반환한다")
+    void deleteTodos_byIds_returnsDeletedCounts() {
+        // given
+        Todo first = saveTodoWithChildren(1, 10);
+        Todo second = saveTodoWithChildren(0, 5);
+
+        // when
+        TodoDeleteResponse response = todoAdminService.deleteTodos(
+                new TodoBulkDeleteRequest(List.of(first.getId(), second.getId(), -1L), null, null));
+
+        // then
+        assertEquals(2, response.deletedTodos());
+        assertEquals(3, response.deletedManagers());
+        assertEquals(15, response.deletedComments());
+    }
+
+    private Todo saveTodoWithChildren(int managerCount, int commentCount) {
+        User author = userRepository.save(new User(uniqueEmail(), "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", author));
+
+        List<Manager> managers = new ArrayList<>();
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < managerCount; i++) {
+            User managerUser = userRepository.save(new User(uniqueEmail(), "password", UserRole.USER));
+            managers.add(new Manager(managerUser, todo));
+        }
+        for (int i = 0; i < commentCount; i++) {
+            comments.add(new Comment("comment" + i, author, todo));
+        }
+        managerRepository.saveAll(managers);
+        commentRepository.saveAll(comments);
+        return todo;
+    }
+
+    private String uniqueEmail() {
+        return System.nanoTime() + "@example.com";
+    }
+}
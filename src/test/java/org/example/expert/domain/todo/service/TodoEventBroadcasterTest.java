@@ -0,0 +1,174 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.dto.TodoEvent;
+import org.example.expert.domain.todo.enums.TodoEventType;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoEventBroadcasterTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+    private TodoEventBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    @Test
+    @DisplayName("담당자 지정 이벤트가 커밋되면: 일정 구독자, 작성자, 지정된 담당자에게 모두 전달된다")
+    void onTodoEvent_managerAdded_deliversToTodoOwnerAndManager() throws Exception {
+        // given
+        createBroadcaster(8);
+        given(todoRepository.existsById(1L)).willReturn(true);
+        RecordingEmitter todoEmitter = push(new RecordingEmitter());
+        RecordingEmitter ownerEmitter = push(new RecordingEmitter());
+        RecordingEmitter managerEmitter = push(new RecordingEmitter());
+        RecordingEmitter otherEmitter = push(new RecordingEmitter());
+        broadcaster.subscribeTodo(1L);
+        broadcaster.subscribeUser(10L);
+        broadcaster.subscribeUser(20L);
+        broadcaster.subscribeUser(30L);
+
+        // when
+        broadcaster.onTodoEvent(TodoEvent.of(TodoEventType.MANAGER_ADDED, 1L, 100L, 10L, 20L));
+
+        // then
+        assertTrue(todoEmitter.awaitEvent("MANAGER_ADDED"));
+        assertTrue(ownerEmitter.awaitEvent("MANAGER_ADDED"));
+        assertTrue(managerEmitter.awaitEvent("MANAGER_ADDED"));
+        assertFalse(otherEmitter.awaitEvent("MANAGER_ADDED", 200));
+        verify(todoRepository, never()).findUserIdById(1L);
+    }
+
+    @Test
+    @DisplayName("작성자를 모르는 이벤트가 커밋되면: 유저 구독자가 있을 때 작성자를 조회해 전달한다")
+    void onTodoEvent_withoutOwner_resolvesOwnerForUserSubscribers() throws Exception {
+        // given
+        createBroadcaster(8);
+        given(todoRepository.findUserIdById(1L)).willReturn(Optional.of(10L));
+        RecordingEmitter ownerEmitter = push(new RecordingEmitter());
+        broadcaster.subscribeUser(10L);
+
+        // when
+        broadcaster.onTodoEvent(TodoEvent.of(TodoEventType.COMMENT_CREATED, 1L, 100L, null, null));
+
+        // then
+        assertTrue(ownerEmitter.awaitEvent("COMMENT_CREATED"));
+    }
+
+    @Test
+    @DisplayName("구독자가 이벤트를 받지 못해 버퍼가 가득 차면: 발행은 막히지 않고 해당 구독자만 연결이 끊긴다")
+    void onTodoEvent_slowConsumer_isEvicted() throws Exception {
+        // given
+        createBroadcaster(2);
+        given(todoRepository.existsById(1L)).willReturn(true);
+        BlockingEmitter slowEmitter = push(new BlockingEmitter());
+        RecordingEmitter fastEmitter = push(new RecordingEmitter());
+        broadcaster.subscribeTodo(1L);
+        broadcaster.subscribeTodo(1L);
+        assertTrue(slowEmitter.sending.await(5, TimeUnit.SECONDS));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            broadcaster.onTodoEvent(TodoEvent.of(TodoEventType.COMMENT_CREATED, 1L, (long) i, 10L, null));
+            assertTrue(fastEmitter.awaitEvent("COMMENT_CREATED"));
+        }
+
+        // then
+        assertEquals(1, broadcaster.getSubscriberCount());
+        assertEquals(1.0, meterRegistry.counter("todo.events.evicted").count());
+        slowEmitter.release.countDown();
+    }
+
+    private void createBroadcaster(int bufferSize) {
+        broadcaster = new TodoEventBroadcaster(todoRepository, bufferSize, Duration.ofMinutes(1), 2, meterRegistry) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return emitters.removeFirst();
+            }
+        };
+    }
+
+    private <T extends SseEmitter> T push(T emitter) {
+        emitters.addLast(emitter);
+        return emitter;
+    }
+
+    private static String eventName(SseEmitter.SseEventBuilder event) {
+        return event.build().stream()
+                .map(part -> String.valueOf(part.getData()))
+                .collect(Collectors.joining());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(eventName(builder));
+        }
+
+        boolean awaitEvent(String name) throws InterruptedException {
+            return awaitEvent(name, 5_000);
+        }
+
+        boolean awaitEvent(String name, long timeoutMillis) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (System.currentTimeMillis() < deadline) {
+                String event = sent.poll(50, TimeUnit.MILLISECONDS);
+                if (event != null && event.contains("event:" + name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // 첫 전송(connected)에서 멈춰 있는 구독자
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoFileFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class TodoExportServiceTest {
+
+    @Autowired
+    private TodoExportService todoExportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("NDJSON 으로 내보낼 때: 일정마다 한 줄씩 작성자와 함께 출력된다")
+    void export_ndjson_writesOneLinePerTodo() throws Exception {
+        // given
+        User user = userRepository.save(new User("export1@example.com", "password", UserRole.USER));
+        todoRepository.save(new Todo("title1", "contents1", "Sunny", user));
+        todoRepository.save(new Todo("title2", "contents2", "Rainy", user));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long count = todoExportService.export(TodoFileFormat.NDJSON, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(todoRepository.count(), count);
+        assertEquals(count, lines.length);
+        assertTrue(outputStream.toString(StandardCharsets.UTF_8).contains("\"authorEmail\":\"export1@example.com\""));
+        for (String line : lines) {
+            assertTrue(line.startsWith("{"), line);
+            assertTrue(objectMapper.readTree(line).has("title"));
+        }
+    }
+
+    @Test
+    @DisplayName("CSV 로 내보낼 때: 헤더 다음에 행이 출력되고 쉼표와 따옴표는 이스케이프된다")
+    void export_csv_escapesSpecialCharacters() throws Exception {
+        // given
+        User user = userRepository.save(new User("export2@example.com", "password", UserRole.USER));
+        todoRepository.save(new Todo("a, \"b\"", "contents", "Sunny", user));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long count = todoExportService.export(TodoFileFormat.CSV, outputStream);
+
+        // then
+        String csv = outputStream.toString(StandardCharsets.UTF_8);
+        assertEquals(count + 1, csv.split("\n").length);
+        assertTrue(csv.startsWith("id,title,contents"));
+        assertTrue(csv.contains(",\"a, \"\"b\"\"\",contents,Sunny,0,1,"));
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoFullResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TodoFullQueryCountTest {
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("담당자와 댓글이 많아도: 일정 상세는 쿼리 3 번으로 조회된다")
+    void getTodoFull_manyChildren_usesFixedQueryCount() {
+        // given
+        Todo todo = saveTodoWithChildren(5, 20);
+        statistics.clear();
+
+        // when
+        TodoFullResponse response = todoService.getTodoFull(todo.getId());
+
+        // then
+        assertEquals(6, response.managers().size());
+        assertEquals(20, response.comments().size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("담당자와 댓글 수가 달라져도: 쿼리 수는 같다")
+    void getTodoFull_queryCountIndependentOfSize() {
+        // given
+        Todo small = saveTodoWithChildren(0, 1);
+        Todo large = saveTodoWithChildren(10, 50);
+
+        // when
+        statistics.clear();
+        todoService.getTodoFull(small.getId());
+        long smallCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        todoService.getTodoFull(large.getId());
+        long largeCount = statistics.getPrepareStatementCount();
+
+        // then
+        assertEquals(smallCount, largeCount);
+    }
+
+    private Todo saveTodoWithChildren(int managerCount, int commentCount) {
+        User author = userRepository.save(new User(uniqueEmail(), "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", author));
+
+        List<Manager> managers = new ArrayList<>();
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < managerCount; i++) {
+            User managerUser = userRepository.save(new User(uniqueEmail(), "password", UserRole.USER));
+            managers.add(new Manager(managerUser, todo));
+        }
+        for (int i = 0; i < commentCount; i++) {
+            comments.add(new Comment("comment" + i, author, todo));
+        }
+        managerRepository.saveAll(managers);
+        commentRepository.saveAll(comments);
+        return todo;
+    }
+
+    private String uniqueEmail() {
+        return System.nanoTime() + "@example.com";
+    }
+}
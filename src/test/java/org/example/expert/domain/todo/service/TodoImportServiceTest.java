@@ -0,0 +1,179 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.ImportStatus;
+import org.example.expert.domain.todo.enums.TodoFileFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "todo.import.chunk-size=2")
+class TodoImportServiceTest {
+
+    @Autowired
+    private TodoImportService todoImportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Test
+    @DisplayName("NDJSON 을 가져올 때: 일정과 댓글이 저장되고 잘못된 레코드는 실패로 집계된다")
+    void importTodos_ndjson_importsTodosAndComments() throws Exception {
+        // given
+        userRepository.save(new User("import1@example.com", "password", UserRole.USER));
+        userRepository.save(new User("import2@example.com", "password", UserRole.USER));
+        String ndjson = """
+                {"title":"t1","contents":"c1","weather":"Sunny","authorEmail":"import1@example.com","comments":[{"contents":"hi","authorEmail":"import2@example.com"},{"contents":"yo","authorEmail":"import1@example.com"}]}
+                {"title":"t2","contents":"c2","authorEmail":"unknown@example.com"}
+                not json
+
+                {"title":"t3","contents":"c3","authorEmail":"import2@example.com"}
+                """;
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos("ndjson-1", TodoFileFormat.NDJSON, stream(ndjson));
+
+        // then
+        assertEquals(ImportStatus.COMPLETED, response.status());
+        assertEquals(4, response.processedRecords());
+        assertEquals(2, response.importedTodos());
+        assertEquals(2, response.importedComments());
+        assertEquals(2, response.failedRecords());
+
+        Todo imported = findByTitle("t1");
+        assertEquals(2, imported.getCommentCount());
+        assertEquals(1, imported.getManagerCount());
+    }
+
+    @Test
+    @DisplayName("CSV 를 가져올 때: 헤더 이름으로 컬럼을 찾고 따옴표 안의 쉼표와 줄바꿈을 그대로 저장한다")
+    void importTodos_csv_parsesQuotedFields() throws Exception {
+        // given
+        userRepository.save(new User("import3@example.com", "password", UserRole.USER));
+        String csv = "id,authorEmail,title,contents,weather\r\n"
+                + "1,import3@example.com,\"csv, \"\"title\"\"\",\"line1\nline2\",Rainy\r\n"
+                + "2,import3@example.com,plain,contents,\r\n";
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos("csv-1", TodoFileFormat.CSV, stream(csv));
+
+        // then
+        assertEquals(2, response.importedTodos());
+        Todo imported = findByTitle("csv, \"title\"");
+        assertEquals("line1\nline2", imported.getContents());
+        assertEquals("Rainy", imported.getWeather());
+    }
+
+    @Test
+    @DisplayName("원본 시각이 있는 레코드를 가져올 때: 작성 / 수정 시각을 현재 시각이 아닌 원본 값으로 저장한다")
+    void importTodos_withTimestamps_keepsSourceTimestamps() throws Exception {
+        // given
+        userRepository.save(new User("import5@example.com", "password", UserRole.USER));
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(10).withNano(0);
+        LocalDateTime modifiedAt = createdAt.plusDays(2);
+        String ndjson = "{\"title\":\"dated\",\"contents\":\"c\",\"authorEmail\":\"import5@example.com\","
+                + "\"createdAt\":\"" + createdAt + "\",\"modifiedAt\":\"" + modifiedAt + "\"}\n"
+                + "{\"title\":\"created only\",\"contents\":\"c\",\"authorEmail\":\"import5@example.com\",\"createdAt\":\"" + createdAt + "\"}\n"
+                + "{\"title\":\"undated\",\"contents\":\"c\",\"authorEmail\":\"import5@example.com\"}\n";
+        String csv = "title,contents,authorEmail,createdAt,modifiedAt\n"
+                + "csv dated,c,import5@example.com," + createdAt + "," + modifiedAt + "\n"
+                + "csv broken,c,import5@example.com,yesterday,\n";
+        LocalDateTime startedAt = LocalDateTime.now().minusSeconds(1);
+
+        // when
+        todoImportService.importTodos("dated-ndjson", TodoFileFormat.NDJSON, stream(ndjson));
+        TodoImportResponse csvResponse = todoImportService.importTodos("dated-csv", TodoFileFormat.CSV, stream(csv));
+
+        // then
+        Todo dated = findByTitle("dated");
+        assertEquals(createdAt, dated.getCreatedAt());
+        assertEquals(modifiedAt, dated.getModifiedAt());
+        Todo createdOnly = findByTitle("created only");
+        assertEquals(createdAt, createdOnly.getCreatedAt());
+        assertEquals(createdAt, createdOnly.getModifiedAt());
+        assertTrue(findByTitle("undated").getModifiedAt().isAfter(startedAt));
+
+        assertEquals(modifiedAt, findByTitle("csv dated").getModifiedAt());
+        assertEquals(1, csvResponse.failedRecords());
+    }
+
+    @Test
+    @DisplayName("가져오기 중 업로드가 끊겼을 때: 같은 importId 로 다시 올리면 커밋된 청크 다음부터 이어서 저장한다")
+    void importTodos_resumedAfterFailure_skipsCommittedRecords() throws Exception {
+        // given
+        userRepository.save(new User("import4@example.com", "password", UserRole.USER));
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            ndjson.append("{\"title\":\"resume").append(i).append("\",\"contents\":\"c\",\"authorEmail\":\"import4@example.com\"}\n");
+        }
+        byte[] bytes = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+        int cutAt = ndjson.indexOf("resume3");
+
+        // when
+        assertThrows(IOException.class, () ->
+                todoImportService.importTodos("resume-1", TodoFileFormat.NDJSON, failingAfter(bytes, cutAt)));
+        TodoImportResponse failed = todoImportService.getProgress("resume-1");
+        TodoImportResponse resumed = todoImportService.importTodos("resume-1", TodoFileFormat.NDJSON, new ByteArrayInputStream(bytes));
+
+        // then
+        assertEquals(ImportStatus.FAILED, failed.status());
+        assertEquals(2, failed.processedRecords());
+        assertEquals(ImportStatus.COMPLETED, resumed.status());
+        assertEquals(5, resumed.importedTodos());
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(findByTitle("resume" + i));
+        }
+    }
+
+    private Todo findByTitle(String title) {
+        List<Todo> todos = todoRepository.findAll().stream()
+                .filter(todo -> title.equals(todo.getTitle()))
+                .toList();
+        assertEquals(1, todos.size());
+        return todos.get(0);
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // limit 바이트까지 읽은 뒤 연결이 끊긴 것처럼 예외를 던짐
+    private InputStream failingAfter(byte[] bytes, int limit) {
+        ByteArrayInputStream delegate = new ByteArrayInputStream(bytes, 0, limit);
+        return new InputStream() {
+            @Override
+            public int read() throws IOException {
+                int read = delegate.read();
+                if (read == -1) {
+                    throw new IOException("connection reset");
+                }
+                return read;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = delegate.read(b, off, len);
+                if (read == -1) {
+                    throw new IOException("connection reset");
+                }
+                return read;
+            }
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.TodoIndexEvent;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TodoSearchIndexTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 5, 1, 12, 0);
+    private final long nowMillis = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    private final TodoSearchIndex index = new TodoSearchIndex(Duration.ofDays(30));
+
+    @Test
+    @DisplayName("여러 단어로 검색할 때: 모든 단어를 포함한 일정만 대소문자 구분 없이 찾는다")
+    void search_multipleTerms_matchesAllTerms() {
+        // given
+        index.upsert(document(1L, "Weekly Meeting", "회의실 예약", now));
+        index.upsert(document(2L, "meeting notes", "weekly, 회의실!", now));
+        index.upsert(document(3L, "weekly report", "보고서", now));
+
+        // when
+        List<TodoSearchIndex.Hit> hits = index.search("WEEKLY 회의실", 10, nowMillis);
+
+        // then
+        assertEquals(List.of(1L, 2L), hits.stream().map(TodoSearchIndex.Hit::todoId).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("수정 시각이 같을 때: 단어가 더 자주, 특히 제목에 나온 일정이 먼저 나온다")
+    void search_sameRecency_ranksByTermFrequency() {
+        // given
+        index.upsert(document(1L, "장보기", "우유 사기", now));
+        index.upsert(document(2L, "우유", "우유 우유", now));
+        index.upsert(document(3L, "장보기", "우유 우유", now));
+
+        // when
+        List<TodoSearchIndex.Hit> hits = index.search("우유", 10, nowMillis);
+
+        // then
+        assertEquals(List.of(2L, 3L, 1L), hits.stream().map(TodoSearchIndex.Hit::todoId).toList());
+    }
+
+    @Test
+    @DisplayName("빈도가 같을 때: 최근에 수정된 일정이 먼저 나오고 limit 건만 반환한다")
+    void search_sameFrequency_ranksByRecency() {
+        // given
+        index.upsert(document(1L, "배포", "", now.minusDays(90)));
+        index.upsert(document(2L, "배포", "", now));
+        index.upsert(document(3L, "배포", "", now.minusDays(10)));
+
+        // when
+        List<TodoSearchIndex.Hit> hits = index.search("배포", 2, nowMillis);
+
+        // then
+        assertEquals(List.of(2L, 3L), hits.stream().map(TodoSearchIndex.Hit::todoId).toList());
+    }
+
+    @Test
+    @DisplayName("일정이 수정 / 삭제되면: 이전 내용과 삭제된 일정은 검색되지 않는다")
+    void apply_upsertAndRemove_replacesDocuments() {
+        // given
+        index.upsert(document(1L, "old title", "", now));
+        index.upsert(document(2L, "old title", "", now));
+
+        // when
+        index.apply(new TodoIndexEvent(List.of(document(1L, "new title", "", now)), List.of(2L)));
+
+        // then
+        assertTrue(index.search("old", 10, nowMillis).isEmpty());
+        assertEquals(List.of(1L), index.search("new", 10, nowMillis).stream().map(TodoSearchIndex.Hit::todoId).toList());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("삭제된 일정이 많아 압축되어도: 남은 일정은 그대로 검색된다")
+    void remove_manyDocuments_compactsAndKeepsLiveDocuments() {
+        // given
+        for (long id = 1; id <= 3_000; id++) {
+            index.upsert(document(id, "todo " + (id % 2 == 0 ? "even" : "odd"), "", now));
+        }
+
+        // when
+        List<Long> removedIds = new ArrayList<>();
+        for (long id = 1; id <= 2_900; id++) {
+            removedIds.add(id);
+        }
+        index.apply(TodoIndexEvent.removed(removedIds));
+
+        // then
+        assertEquals(100, index.size());
+        assertEquals(50, index.search("even", 100, nowMillis).size());
+        assertTrue(index.search("even", 100, nowMillis).stream().allMatch(hit -> hit.todoId() > 2_900));
+    }
+
+    private TodoSearchDocument document(long id, String title, String contents, LocalDateTime modifiedAt) {
+        return new TodoSearchDocument(id, title, contents, modifiedAt);
+    }
+}
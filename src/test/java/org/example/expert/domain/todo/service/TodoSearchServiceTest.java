@@ -0,0 +1,105 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.TodoIndexEvent;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoSearchServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    private TodoSearchService todoSearchService;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        todoSearchService = new TodoSearchService(todoRepository, Duration.ofDays(30), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("색인을 만들기 전에 검색하면: 다시 시도할 시간을 담은 ServiceUnavailableException 이 발생한다")
+    void search_beforeRebuild_throwsServiceUnavailableException() {
+        // when
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> todoSearchService.search("회의", 10, 100));
+
+        // then
+        assertTrue(exception.getRetryAfterSeconds() > 0);
+    }
+
+    @Test
+    @DisplayName("색인을 만드는 중에 들어온 변경은: 새 색인에 다시 적용된다")
+    void rebuild_withConcurrentEvents_replaysPendingEvents() {
+        // given
+        given(todoRepository.streamAllForSearch()).willAnswer(invocation -> {
+            // 스캔이 시작된 뒤 커밋된 변경
+            todoSearchService.onIndexEvent(TodoIndexEvent.removed(List.of(1L)));
+            todoSearchService.onIndexEvent(new TodoIndexEvent(List.of(document(3L, "회의 준비")), List.of()));
+            return Stream.of(document(1L, "회의록"), document(2L, "회의 준비"));
+        });
+        given(todoRepository.findSummariesByIdIn(anyCollection(), anyInt())).willReturn(List.of());
+
+        // when
+        todoSearchService.rebuild();
+        todoSearchService.search("회의", 10, 100);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(todoRepository).findSummariesByIdIn(captor.capture(), anyInt());
+        assertEquals(List.of(2L, 3L), captor.getValue().stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("검색 결과는: 조회 순서와 관계없이 색인 점수 순으로 반환된다")
+    void search_returnsSummariesInRankOrder() {
+        // given
+        given(todoRepository.streamAllForSearch()).willReturn(Stream.of(
+                document(1L, "회의"),
+                document(2L, "회의 회의")
+        ));
+        todoSearchService.rebuild();
+        given(todoRepository.findSummariesByIdIn(anyCollection(), anyInt())).willReturn(List.of(summary(1L), summary(2L)));
+
+        // when
+        List<TodoSummaryResponse> result = todoSearchService.search("회의", 10, 100);
+
+        // then
+        assertEquals(List.of(2L, 1L), result.stream().map(TodoSummaryResponse::id).toList());
+    }
+
+    private TodoSearchDocument document(long id, String title) {
+        return new TodoSearchDocument(id, title, "", now);
+    }
+
+    private TodoSummaryResponse summary(long id) {
+        return new TodoSummaryResponse(id, "title", "contents", "Sunny", 0, 1, 1L, "a@a.com", now, now);
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.ArchivedTodoRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private ArchivedTodoRepository archivedTodoRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private TodoBatchWriter todoBatchWriter;
+    @Mock
+    private TodoDeleter todoDeleter;
+    @Mock
+    private TodoCache todoCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @InjectMocks
+    private TodoService todoService;
+
+    @Test
+    @DisplayName("일정을 저장할 때: 트랜잭션 빈(TodoBatchWriter)으로 저장하고 서비스에서 직접 이벤트를 발행하지 않는다")
+    void saveTodo_savesThroughTransactionalWriter() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        willAnswer(invocation -> {
+            List<Todo> todos = invocation.getArgument(0);
+            ReflectionTestUtils.setField(todos.get(0), "id", 100L);
+            return null;
+        }).given(todoBatchWriter).saveAll(anyList());
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+
+        // then
+        verify(todoBatchWriter).saveAll(anyList());
+        verify(todoRepository, never()).save(any(Todo.class));
+        verify(eventPublisher, never()).publishEvent(any());
+        assertEquals(100L, response.id());
+        assertEquals("Sunny", response.weather());
+    }
+
+    @Test
+    @DisplayName("일정을 일괄 저장할 때: 날씨는 한 번만 조회하고 유효한 항목만 한 번에 저장한다")
+    void saveTodos_withInvalidItems_reportsPerItemResults() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        TodoBatchSaveRequest request = new TodoBatchSaveRequest(Arrays.asList(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest(" ", "contents2"),
+                null,
+                new TodoSaveRequest("title4", "contents4")
+        ));
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        willAnswer(invocation -> {
+            List<Todo> todos = invocation.getArgument(0);
+            for (int i = 0; i < todos.size(); i++) {
+                ReflectionTestUtils.setField(todos.get(i), "id", 100L + i);
+            }
+            return null;
+        }).given(todoBatchWriter).saveAll(anyList());
+
+        // when
+        TodoBatchSaveResponse response = todoService.saveTodos(authUser, request);
+
+        // then
+        verify(weatherClient, times(1)).getTodayWeather();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Todo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(todoBatchWriter).saveAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+
+        assertEquals(4, response.total());
+        assertEquals(2, response.succeeded());
+        assertEquals(2, response.failed());
+        assertEquals(100L, response.results().get(0).id());
+        assertFalse(response.results().get(1).success());
+        assertFalse(response.results().get(2).success());
+        assertEquals(101L, response.results().get(3).id());
+    }
+
+    @Test
+    @DisplayName("작성자가 아닌 유저가 일정을 삭제할 때: 예외가 발생하고 삭제하지 않는다")
+    void deleteTodo_notOwner_throwsException() {
+        // given
+        given(todoRepository.findUserIdById(1L)).willReturn(Optional.of(2L));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.deleteTodo(1L, 1L));
+
+        // then
+        assertEquals("일정을 생성한 유저만 일정을 삭제할 수 있습니다.", exception.getMessage());
+        verify(todoDeleter, never()).deleteAll(anyList());
+    }
+
+    @Test
+    @DisplayName("작성자가 일정을 삭제할 때: 댓글과 담당자까지 일괄 삭제한다")
+    void deleteTodo_owner_deletesTodo() {
+        // given
+        given(todoRepository.findUserIdById(1L)).willReturn(Optional.of(1L));
+
+        // when
+        todoService.deleteTodo(1L, 1L);
+
+        // then
+        verify(todoDeleter).deleteAll(List.of(1L));
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TodoSummaryTest {
+
+    // 다른 테스트가 같은 DB 에 넣은 일정보다 앞에 오도록 먼 미래 시각으로 수정 시각을 지정
+    private static final LocalDateTime BASE = LocalDateTime.of(2999, 1, 1, 0, 0);
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+    private Todo newest;
+    private Todo middle;
+    private Todo oldest;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("UPDATE todos SET modified_at = ? WHERE modified_at >= ?",
+                Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(BASE));
+        author = userRepository.save(new User(System.nanoTime() + "@example.com", "password", UserRole.USER));
+        oldest = saveTodo("oldest", "0123456789", 0, BASE.plusMinutes(1));
+        middle = saveTodo("middle", "abcdefghij", 3, BASE.plusMinutes(2));
+        newest = saveTodo("newest", "가나다라마바사", 1, BASE.plusMinutes(3));
+    }
+
+    @Test
+    @DisplayName("요약 목록 조회 시: 수정 시각 내림차순으로 필드와 카운터, 작성자를 채우고 contents 는 비운다")
+    void getTodoSummaries_withoutPreview_projectsFieldsWithoutContents() {
+        // when
+        Page<TodoSummaryResponse> page = todoService.getTodoSummaries(1, 2, 0);
+
+        // then
+        assertEquals(List.of(newest.getId(), middle.getId()), page.getContent().stream().map(TodoSummaryResponse::id).toList());
+        TodoSummaryResponse summary = page.getContent().get(1);
+        assertEquals("middle", summary.title());
+        assertNull(summary.contents());
+        assertEquals("Sunny", summary.weather());
+        assertEquals(3, summary.commentCount());
+        assertEquals(1, summary.managerCount());
+        assertEquals(author.getId(), summary.user().id());
+        assertEquals(author.getEmail(), summary.user().email());
+        assertEquals(BASE.plusMinutes(2), summary.modifiedAt());
+        assertNotNull(summary.createdAt());
+        assertTrue(page.getTotalElements() >= 3);
+    }
+
+    @Test
+    @DisplayName("previewLength 를 지정하면: contents 를 그 길이까지만 잘라서 조회한다")
+    void getTodoSummaries_withPreview_truncatesContents() {
+        // when
+        List<TodoSummaryResponse> content = todoService.getTodoSummaries(1, 2, 4).getContent();
+
+        // then
+        assertEquals("가나다라", content.get(0).contents());
+        assertEquals("abcd", content.get(1).contents());
+    }
+
+    @Test
+    @DisplayName("다음 페이지를 조회하면: 이전 페이지 다음 일정부터 이어진다")
+    void getTodoSummaries_secondPage_continuesOrder() {
+        // when
+        Page<TodoSummaryResponse> page = todoService.getTodoSummaries(2, 2, 0);
+
+        // then
+        assertEquals(oldest.getId(), page.getContent().get(0).id());
+        assertEquals(1, page.getNumber());
+        assertEquals(2, page.getSize());
+    }
+
+    private Todo saveTodo(String title, String contents, int commentCount, LocalDateTime modifiedAt) {
+        Todo todo = todoRepository.save(new Todo(title, contents, "Sunny", author));
+        // 감사(auditing) 필드와 카운터는 엔티티로 바꿀 수 없으므로 SQL 로 직접 변경
+        jdbcTemplate.update("UPDATE todos SET modified_at = ?, comment_count = ? WHERE id = ?",
+                Timestamp.valueOf(modifiedAt), commentCount, todo.getId());
+        return todo;
+    }
+}
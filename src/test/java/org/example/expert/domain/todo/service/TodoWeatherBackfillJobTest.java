@@ -0,0 +1,158 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.PendingWeatherTodo;
+import org.example.expert.domain.todo.dto.TodoEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherBackfillJobTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private TodoCache todoCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @InjectMocks
+    private TodoWeatherBackfillJob todoWeatherBackfillJob;
+
+    private final LocalDate today = LocalDate.of(2024, 5, 2);
+    private final LocalDate yesterday = LocalDate.of(2024, 5, 1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(todoWeatherBackfillJob, "batchSize", 100);
+    }
+
+    @Test
+    @DisplayName("날씨가 비어있는 일정이 있을 때: 밀린 날짜를 한 번에 조회하고 날짜별로 한 번의 UPDATE 로 반영한다")
+    void backfill_withPendingTodos_fetchesAllDatesOnce() {
+        // given
+        given(todoRepository.findPendingWeatherDates()).willReturn(List.of(yesterday, today));
+        given(weatherClient.getWeather(List.of(yesterday, today))).willReturn(Map.of(today, "Sunny", yesterday, "Rainy"));
+        given(todoRepository.findPendingWeather(eq(0L), any(Pageable.class))).willReturn(List.of(
+                new PendingWeatherTodo(1L, 10L, today.atTime(9, 0)),
+                new PendingWeatherTodo(2L, 10L, yesterday.atTime(23, 0)),
+                new PendingWeatherTodo(3L, 10L, today.atTime(10, 0))
+        ));
+
+        // when
+        todoWeatherBackfillJob.backfill();
+
+        // then
+        verify(weatherClient, times(1)).getWeather(anyCollection());
+        verify(weatherClient, never()).getWeather(any(LocalDate.class));
+        verify(todoRepository).updatePendingWeather(List.of(1L, 3L), "Sunny");
+        verify(todoRepository).updatePendingWeather(List.of(2L), "Rainy");
+        verify(todoCache).evictAll(List.of(1L, 3L));
+        verify(todoCache).evictAll(List.of(2L));
+        ArgumentCaptor<TodoEvent> captor = ArgumentCaptor.forClass(TodoEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(captor.capture());
+        assertTrue(captor.getAllValues().stream().allMatch(event -> Long.valueOf(10L).equals(event.ownerId())));
+    }
+
+    @Test
+    @DisplayName("날씨 데이터가 없는 날짜가 있을 때: 해당 날짜는 건너뛰고 나머지 날짜는 반영한다")
+    void backfill_withMissingDate_skipsMissingDate() {
+        // given
+        given(todoRepository.findPendingWeatherDates()).willReturn(List.of(yesterday, today));
+        given(weatherClient.getWeather(List.of(yesterday, today))).willReturn(Map.of(today, "Sunny"));
+        given(todoRepository.findPendingWeather(eq(0L), any(Pageable.class))).willReturn(List.of(
+                new PendingWeatherTodo(1L, 10L, today.atTime(9, 0)),
+                new PendingWeatherTodo(2L, 10L, yesterday.atTime(23, 0))
+        ));
+
+        // when
+        todoWeatherBackfillJob.backfill();
+
+        // then
+        verify(todoRepository, times(1)).updatePendingWeather(anyList(), anyString());
+        verify(todoRepository).updatePendingWeather(List.of(1L), "Sunny");
+    }
+
+    @Test
+    @DisplayName("날씨 조회에 실패하면: 일정을 읽지 않고 다음 주기로 넘긴다")
+    void backfill_withUpstreamFailure_updatesNothing() {
+        // given
+        given(todoRepository.findPendingWeatherDates()).willReturn(List.of(today));
+        given(weatherClient.getWeather(List.of(today))).willThrow(new ServerException("날씨 API 호출이 일시적으로 차단되었습니다."));
+
+        // when
+        todoWeatherBackfillJob.backfill();
+
+        // then
+        verify(todoRepository, never()).findPendingWeather(anyLong(), any(Pageable.class));
+        verify(todoRepository, never()).updatePendingWeather(anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("날씨가 비어있는 일정이 없을 때: 외부 API 를 호출하지 않는다")
+    void backfill_withoutPendingTodos_doesNothing() {
+        // given
+        given(todoRepository.findPendingWeatherDates()).willReturn(List.of());
+
+        // when
+        todoWeatherBackfillJob.backfill();
+
+        // then
+        verify(weatherClient, never()).getWeather(anyCollection());
+        verify(todoRepository, never()).findPendingWeather(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("날씨가 없는 가장 오래된 날짜가 한 페이지를 채워도: 조회는 한 번이고 다음 페이지의 날짜는 반영한다")
+    void backfill_withMissingOldestDate_keysPastSkippedTodos() {
+        // given
+        ReflectionTestUtils.setField(todoWeatherBackfillJob, "batchSize", 2);
+        given(todoRepository.findPendingWeatherDates()).willReturn(List.of(yesterday, today));
+        given(weatherClient.getWeather(List.of(yesterday, today))).willReturn(Map.of(today, "Sunny"));
+        given(todoRepository.findPendingWeather(eq(0L), any(Pageable.class))).willReturn(List.of(
+                new PendingWeatherTodo(1L, 10L, yesterday.atTime(9, 0)),
+                new PendingWeatherTodo(2L, 10L, yesterday.atTime(10, 0))
+        ));
+        given(todoRepository.findPendingWeather(eq(2L), any(Pageable.class))).willReturn(List.of(
+                new PendingWeatherTodo(3L, 10L, yesterday.atTime(11, 0)),
+                new PendingWeatherTodo(4L, 10L, today.atTime(9, 0))
+        ));
+        given(todoRepository.findPendingWeather(eq(4L), any(Pageable.class))).willReturn(List.of());
+
+        // when
+        todoWeatherBackfillJob.backfill();
+
+        // then
+        verify(weatherClient, times(1)).getWeather(anyCollection());
+        verify(todoRepository).updatePendingWeather(List.of(4L), "Sunny");
+        verify(todoRepository, times(1)).updatePendingWeather(anyList(), anyString());
+    }
+}